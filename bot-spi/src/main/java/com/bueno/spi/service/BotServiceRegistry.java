@@ -0,0 +1,74 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.service;
+
+import java.util.*;
+
+final class BotServiceRegistry {
+
+    private static volatile Snapshot snapshot;
+
+    private BotServiceRegistry() {}
+
+    static List<String> names() {
+        return snapshot().names();
+    }
+
+    static List<BotServiceProvider> sharedInstances() {
+        return snapshot().sharedInstances();
+    }
+
+    static Optional<BotServiceProvider> shared(String botServiceName) {
+        return Optional.ofNullable(snapshot().byName().get(botServiceName)).map(Registration::instance);
+    }
+
+    static Optional<BotServiceProvider> newInstance(String botServiceName) {
+        return Optional.ofNullable(snapshot().byName().get(botServiceName)).map(registration -> registration.factory().get());
+    }
+
+    static synchronized void reload() {
+        snapshot = discover();
+    }
+
+    private static Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) return current;
+        synchronized (BotServiceRegistry.class) {
+            if (snapshot == null) snapshot = discover();
+            return snapshot;
+        }
+    }
+
+    private static Snapshot discover() {
+        final Map<String, Registration> byName = new LinkedHashMap<>();
+        ServiceLoader.load(BotServiceProvider.class).stream().forEach(factory -> {
+            final BotServiceProvider instance = factory.get();
+            byName.putIfAbsent(instance.getName(), new Registration(factory, instance));
+        });
+        final List<BotServiceProvider> instances = byName.values().stream().map(Registration::instance).toList();
+        return new Snapshot(Collections.unmodifiableMap(byName), List.copyOf(byName.keySet()), instances);
+    }
+
+    private record Registration(ServiceLoader.Provider<BotServiceProvider> factory, BotServiceProvider instance) {}
+
+    private record Snapshot(Map<String, Registration> byName, List<String> names,
+                            List<BotServiceProvider> sharedInstances) {}
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BotServiceManagerTest {
+
+    @Test
+    @DisplayName("Should throw if shared bot service is not available")
+    void shouldThrowIfSharedBotServiceIsNotAvailable() {
+        assertThrows(NoSuchElementException.class, () -> BotServiceManager.load("NoSuchBot"));
+    }
+
+    @Test
+    @DisplayName("Should throw if per game bot service is not available")
+    void shouldThrowIfPerGameBotServiceIsNotAvailable() {
+        assertThrows(NoSuchElementException.class, () -> BotServiceManager.loadForGame("NoSuchBot"));
+    }
+
+    @Test
+    @DisplayName("Should list the same names after reloading providers")
+    void shouldListTheSameNamesAfterReloadingProviders() {
+        final var namesBeforeReload = BotServiceManager.providersNames();
+        BotServiceManager.reload();
+        assertEquals(namesBeforeReload, BotServiceManager.providersNames());
+    }
+
+    @Test
+    @DisplayName("Should list one provider for each name")
+    void shouldListOneProviderForEachName() {
+        assertEquals(BotServiceManager.providersNames().size(), BotServiceManager.providers().count());
+    }
+}
@@ -110,7 +110,7 @@ public class GameCLI {
     }
 
     private void updateIntel() {
-        var responseModel = handleIntelUseCase.findIntelSince(userUUID, lastIntel.timestamp());
+        var responseModel = handleIntelUseCase.findIntelAfter(userUUID, lastIntel.sequence());
         missingIntel.addAll(responseModel.intelSinceBaseTimestamp());
         if(missingIntel.isEmpty()) missingIntel.add(lastIntel);
         else lastIntel = missingIntel.get(missingIntel.size() - 1);
@@ -0,0 +1,186 @@
+/*
+ *  Copyright (C) 2021 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.application.standalone;
+
+import com.bueno.domain.usecases.bot.providers.BotProviders;
+import com.bueno.domain.usecases.game.PlayWithBotsUseCase;
+import com.bueno.domain.usecases.game.dtos.CreateForBotsDto;
+import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class PlayTournament {
+
+    private static final double Z_95 = 1.96;
+
+    private final int gamesPerPairing;
+    private final SimulationOptions options;
+    private final ForkJoinPool pool;
+    private final PrintWriter writer;
+
+    public PlayTournament(int gamesPerPairing, SimulationOptions options, ForkJoinPool pool, PrintWriter writer) {
+        this.gamesPerPairing = gamesPerPairing;
+        this.options = Objects.requireNonNull(options);
+        this.pool = Objects.requireNonNull(pool);
+        this.writer = Objects.requireNonNull(writer);
+    }
+
+    public static void main(String[] args) {
+        final SimulationOptions options;
+        try {
+            options = SimulationOptions.parse(args, true);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: PlayTournament [output file] [--seed <n>] [--duplicate]");
+            return;
+        }
+        final var prompt = new UserPrompt();
+        final var botNames = BotProviders.availableBots();
+        final var output = Path.of(options.arguments().isEmpty() ? "tournament-results.txt" : options.arguments().get(0));
+
+        prompt.printAvailableBots(botNames);
+        final var times = prompt.scanNumberOfSimulations();
+        System.out.println("Base seed: " + options.baseSeed());
+
+        final long start = System.currentTimeMillis();
+        try (var writer = new PrintWriter(Files.newBufferedWriter(output))) {
+            new PlayTournament(times, options, ForkJoinPool.commonPool(), writer).play(botNames);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final long end = System.currentTimeMillis();
+        System.out.println("Time to compute tournament: " + (end - start) + "ms. Results: " + output.toAbsolutePath());
+    }
+
+    public List<PairingResult> play(List<String> botNames) {
+        final List<CompletableFuture<PairingResult>> pairings = new ArrayList<>();
+        for (int i = 0; i < botNames.size(); i++)
+            for (int j = i + 1; j < botNames.size(); j++) {
+                final String bot1Name = botNames.get(i);
+                final String bot2Name = botNames.get(j);
+                pairings.add(CompletableFuture
+                        .supplyAsync(() -> playPairing(bot1Name, bot2Name), pool)
+                        .thenApply(this::printPairing));
+            }
+
+        final List<PairingResult> results = pairings.stream().map(CompletableFuture::join).toList();
+        printStandings(botNames, results);
+        return results;
+    }
+
+    private PairingResult playPairing(String bot1Name, String bot2Name) {
+        final UUID bot1Uuid = UUID.randomUUID();
+        final UUID bot2Uuid = UUID.randomUUID();
+        final var useCase = PlayWithBotsUseCase.headless();
+        final var requestModel = new CreateForBotsDto(bot1Uuid, bot1Name, bot2Uuid, bot2Name);
+
+        //Every pairing plays the same seeds, so all bots face the same deals.
+        final List<PlayWithBotsDto> results = IntStream.range(0, gamesPerPairing)
+                .parallel()
+                .mapToObj(game -> playOrNull(useCase, requestModel, options.seedOf(game)))
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .toList();
+
+        final int gamesPlayed = options.duplicate() ? 2 * gamesPerPairing : gamesPerPairing;
+        final long bot1Wins = results.stream().filter(result -> result.uuid().equals(bot1Uuid)).count();
+        final long bot2Wins = results.size() - bot1Wins;
+        return new PairingResult(bot1Name, bot2Name, bot1Wins, bot2Wins, gamesPlayed - results.size());
+    }
+
+    private List<PlayWithBotsDto> playOrNull(PlayWithBotsUseCase useCase, CreateForBotsDto requestModel, long seed) {
+        try {
+            final List<PlayWithBotsDto> results = options.duplicate()
+                    ? useCase.playDuplicateDeal(requestModel, seed)
+                    : List.of(useCase.playWithBots(requestModel, seed));
+            System.out.println(requestModel.bot1Name() + " x " + requestModel.bot2Name() + " | seed " + seed
+                    + " | winner: " + results.stream().map(PlayWithBotsDto::name).collect(Collectors.joining(", ")));
+            return results;
+        } catch (Exception e) {
+            System.err.println(requestModel.bot1Name() + " x " + requestModel.bot2Name() + " | seed " + seed + " failed");
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private PairingResult printPairing(PairingResult result) {
+        final long games = result.bot1Wins() + result.bot2Wins();
+        synchronized (writer) {
+            writer.printf("%s x %s: %d x %d | %s win rate %s | failed games: %d%n",
+                    result.bot1Name(), result.bot2Name(), result.bot1Wins(), result.bot2Wins(),
+                    result.bot1Name(), formatWinRate(result.bot1Wins(), games), result.failures());
+            writer.flush();
+        }
+        return result;
+    }
+
+    private void printStandings(List<String> botNames, List<PairingResult> results) {
+        final Map<String, long[]> winsAndGames = new HashMap<>();
+        botNames.forEach(name -> winsAndGames.put(name, new long[2]));
+        results.forEach(result -> {
+            final long games = result.bot1Wins() + result.bot2Wins();
+            winsAndGames.get(result.bot1Name())[0] += result.bot1Wins();
+            winsAndGames.get(result.bot1Name())[1] += games;
+            winsAndGames.get(result.bot2Name())[0] += result.bot2Wins();
+            winsAndGames.get(result.bot2Name())[1] += games;
+        });
+
+        final Comparator<String> byWinRate = Comparator.comparingDouble(name -> {
+            final long[] record = winsAndGames.get(name);
+            return record[1] == 0 ? 0 : (double) record[0] / record[1];
+        });
+        final List<String> standings = botNames.stream().sorted(byWinRate.reversed()).toList();
+
+        synchronized (writer) {
+            writer.println("\n================================================================");
+            writer.printf("%-4s %-30s %10s %10s   %s%n", "#", "Bot", "Wins", "Games", "Win rate [95% CI]");
+            for (int i = 0; i < standings.size(); i++) {
+                final long[] record = winsAndGames.get(standings.get(i));
+                writer.printf("%-4d %-30s %10d %10d   %s%n",
+                        i + 1, standings.get(i), record[0], record[1], formatWinRate(record[0], record[1]));
+            }
+            writer.println("================================================================");
+            writer.flush();
+        }
+    }
+
+    //Wilson score interval, which stays inside [0, 1] even for extreme win rates or few games.
+    private static String formatWinRate(long wins, long games) {
+        if (games == 0) return "--";
+        final double rate = (double) wins / games;
+        final double zSquared = Z_95 * Z_95;
+        final double denominator = 1 + zSquared / games;
+        final double center = (rate + zSquared / (2.0 * games)) / denominator;
+        final double margin = Z_95 * Math.sqrt(rate * (1 - rate) / games + zSquared / (4.0 * games * games)) / denominator;
+        return String.format(Locale.ROOT, "%.3f [%.3f, %.3f]", rate, center - margin, center + margin);
+    }
+
+    public record PairingResult(String bot1Name, String bot2Name, long bot1Wins, long bot2Wins, long failures) {}
+}
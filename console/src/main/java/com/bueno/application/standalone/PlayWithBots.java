@@ -29,17 +29,30 @@ import com.bueno.domain.usecases.game.repos.GameRepoDisposableImpl;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.Callable;
-import java.util.function.Function;
-import java.util.stream.Stream;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class PlayWithBots {
 
     private static final UUID uuidBot1 = UUID.randomUUID();
     private static final UUID uuidBot2 = UUID.randomUUID();
 
+    private final SimulationOptions options;
+
+    public PlayWithBots(SimulationOptions options) {
+        this.options = Objects.requireNonNull(options);
+    }
+
     public static void main(String[] args) {
-        final var main = new PlayWithBots();
+        final SimulationOptions options;
+        try {
+            options = SimulationOptions.parse(args, false);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: PlayWithBots [--headless [--seed <n>] [--duplicate]]");
+            return;
+        }
+        final var main = new PlayWithBots(options);
         final var prompt = new UserPrompt();
         final var botNames = BotProviders.availableBots();
 
@@ -48,41 +61,53 @@ public class PlayWithBots {
         final var bot1 = prompt.scanBotOption(botNames);
         final var bot2 = prompt.scanBotOption(botNames);
         final var times = prompt.scanNumberOfSimulations();
+        if (options.headless()) System.out.println("Base seed: " + options.baseSeed());
 
         final long start = System.currentTimeMillis();
         final var results = main.playManyInParallel(times, botNames.get(bot1 - 1), botNames.get(bot2 - 1));
         final long end = System.currentTimeMillis();
-        prompt.printResult(times, (end - start), results);
+        prompt.printResult(options.duplicate() ? 2 * times : times, (end - start), results);
     }
 
     private List<PlayWithBotsDto> playManyInParallel(int times, String bot1Name, String bot2Name) {
-        final Callable<PlayWithBotsDto> playGame = () -> play(bot1Name, bot2Name);
-        return Stream.generate(() -> playGame)
-                .limit(times)
+        return IntStream.range(0, times)
                 .parallel()
-                .map(executeGameCall())
+                .mapToObj(game -> playOrNull(game, bot1Name, bot2Name))
                 .filter(Objects::nonNull)
+                .flatMap(List::stream)
                 .toList();
     }
 
-    private PlayWithBotsDto play(String bot1Name, String bot2Name){
-        final var repo = new GameRepoDisposableImpl();
-        final var useCase = new PlayWithBotsUseCase(repo);
+    private List<PlayWithBotsDto> playOrNull(int game, String bot1Name, String bot2Name) {
+        try {
+            return play(game, bot1Name, bot2Name);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private List<PlayWithBotsDto> play(int game, String bot1Name, String bot2Name){
         final var requestModel = new CreateForBotsDto(uuidBot1, bot1Name, uuidBot2, bot2Name);
-        final var result = useCase.playWithBots(requestModel);
-        System.out.println("Winner: " + (result.uuid().equals(uuidBot1) ? bot1Name : bot2Name));
-        return result;
+        if (!options.headless()) {
+            final var result = new PlayWithBotsUseCase(new GameRepoDisposableImpl()).playWithBots(requestModel);
+            System.out.println("Winner: " + nameOf(result, bot1Name, bot2Name));
+            return List.of(result);
+        }
+
+        final var useCase = PlayWithBotsUseCase.headless();
+        final long seed = options.seedOf(game);
+        final List<PlayWithBotsDto> results = options.duplicate()
+                ? useCase.playDuplicateDeal(requestModel, seed)
+                : List.of(useCase.playWithBots(requestModel, seed));
+        final String winners = results.stream()
+                .map(result -> nameOf(result, bot1Name, bot2Name))
+                .collect(Collectors.joining(", "));
+        System.out.println("Seed " + seed + " - Winner: " + winners);
+        return results;
     }
 
-    private static Function<Callable<PlayWithBotsDto>, PlayWithBotsDto> executeGameCall() {
-        return gameCall -> {
-            try {
-                return gameCall.call();
-            }
-            catch (Exception e) {
-                e.printStackTrace();
-                return null;
-            }
-        };
+    private static String nameOf(PlayWithBotsDto result, String bot1Name, String bot2Name) {
+        return result.uuid().equals(uuidBot1) ? bot1Name : bot2Name;
     }
 }
@@ -0,0 +1,67 @@
+/*
+ *  Copyright (C) 2021 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.application.standalone;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+
+//Command line options shared by the simulation runners: --headless, --seed <n> and --duplicate.
+//Game i of a run is played with seed (base seed + i), so any single game can be replayed from the printed seed.
+record SimulationOptions(boolean headless, long baseSeed, boolean duplicate, List<String> arguments) {
+
+    static SimulationOptions parse(String[] args, boolean alwaysHeadless) {
+        boolean headless = alwaysHeadless;
+        boolean duplicate = false;
+        OptionalLong seed = OptionalLong.empty();
+        final List<String> arguments = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--headless" -> headless = true;
+                case "--duplicate" -> duplicate = true;
+                case "--seed" -> {
+                    if (i + 1 == args.length) throw new IllegalArgumentException("Option --seed requires a value.");
+                    seed = OptionalLong.of(parseSeed(args[++i]));
+                }
+                default -> arguments.add(args[i]);
+            }
+        }
+        //Seeded decks only exist in headless games, the repository mode always deals with a fresh deck.
+        if (!headless && (seed.isPresent() || duplicate))
+            throw new IllegalArgumentException("Options --seed and --duplicate require --headless.");
+
+        final long baseSeed = seed.orElseGet(() -> ThreadLocalRandom.current().nextLong());
+        return new SimulationOptions(headless, baseSeed, duplicate, List.copyOf(arguments));
+    }
+
+    private static long parseSeed(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid seed: " + value, e);
+        }
+    }
+
+    long seedOf(int game) {
+        return baseSeed + game;
+    }
+}
@@ -217,7 +217,7 @@ public class GameTableController {
     }
 
     private void updateIntel() {
-        final var responseModel = handleIntelUseCase.findIntelSince(userUUID, lastIntel.timestamp());
+        final var responseModel = handleIntelUseCase.findIntelAfter(userUUID, lastIntel.sequence());
         missingIntel.addAll(responseModel.intelSinceBaseTimestamp());
         if (missingIntel.isEmpty()) missingIntel.add(lastIntel);
         else lastIntel = missingIntel.get(missingIntel.size() - 1);
@@ -24,13 +24,33 @@ import java.util.Objects;
 
 public final class Card {
 
-    private static final Card[] cache = new Card[41];
+    public static final int NUMBER_OF_OPEN_CARDS = 40;
+    private static final Card[] cache = new Card[NUMBER_OF_OPEN_CARDS + 1];
     private final Suit suit;
     private final Rank rank;
+    private final int ordinal;
+
+    //Relative strength of each open card indexed by [vira rank value - 1][card ordinal].
+    private static final int[][] strengthTable = new int[NUMBER_OF_OPEN_CARDS / 4][NUMBER_OF_OPEN_CARDS];
+
+    static {
+        cache[0] = new Card(Rank.HIDDEN, Suit.HIDDEN);
+        for (Rank rank : Rank.values())
+            for (Suit suit : Suit.values())
+                if (rank != Rank.HIDDEN && suit != Suit.HIDDEN)
+                    cache[cachePosition(rank, suit)] = new Card(rank, suit);
+
+        for (int viraRank = 0; viraRank < strengthTable.length; viraRank++) {
+            final Card vira = cache[cachePosition(Rank.values()[viraRank + 1], Suit.DIAMONDS)];
+            for (int ordinal = 0; ordinal < NUMBER_OF_OPEN_CARDS; ordinal++)
+                strengthTable[viraRank][ordinal] = computeCardValue(cache[ordinal + 1], vira);
+        }
+    }
 
     private Card(Rank rank, Suit suit) {
         this.rank = rank;
         this.suit  = suit;
+        this.ordinal = cachePosition(rank, suit) - 1;
     }
 
     public static Card of(Rank rank, Suit suit){
@@ -39,27 +59,42 @@ public final class Card {
         if(rank == Rank.HIDDEN ^ suit == Suit.HIDDEN)
             throw new IllegalArgumentException("Both rank and suit must be HIDDEN or none: " + rank + suit);
 
-        return fromCache(rank, suit);
+        return cache[cachePosition(rank, suit)];
     }
 
     public static Card closed(){
-        return fromCache(Rank.HIDDEN, Suit.HIDDEN);
+        return cache[0];
+    }
+
+    public static Card ofOrdinal(int ordinal){
+        if(ordinal < 0 || ordinal >= NUMBER_OF_OPEN_CARDS)
+            throw new IllegalArgumentException("Card ordinal must be in range [0, 39]: " + ordinal);
+        return cache[ordinal + 1];
     }
 
-    private static Card fromCache(Rank rank, Suit suit){
+    private static int cachePosition(Rank rank, Suit suit){
         int rankValue = rank.value();
         int suitValue = suit.value();
-        int cachePosition = rankValue == 0 || suitValue == 0 ? 0 : (rankValue - 1) * 4 + suitValue;
+        return rankValue == 0 || suitValue == 0 ? 0 : (rankValue - 1) * 4 + suitValue;
+    }
 
-        if(cache[cachePosition] == null) cache[cachePosition] = new Card(rank, suit);
-        return cache[cachePosition];
+    //Dense position of the card from [4D] = 0 to [3C] = 39, following the rank order. Closed card has ordinal -1.
+    public int ordinal() {
+        return ordinal;
     }
 
     public int compareValueTo(Card card, Card vira){
-        return computeCardValue(this, vira) - computeCardValue(card, vira);
+        return strength(this, vira) - strength(card, vira);
     }
 
-    private int computeCardValue(Card card, Card vira) {
+    //Closed cards are worth 0, less than any open card. A closed vira falls back to the rule-based computation.
+    public static int strength(Card card, Card vira){
+        if(vira.ordinal < 0) return computeCardValue(card, vira);
+        if(card.ordinal < 0) return 0;
+        return strengthTable[vira.rank.value() - 1][card.ordinal];
+    }
+
+    private static int computeCardValue(Card card, Card vira) {
         if (!card.isManilha(vira))
             return card.getRank().value();
         else
@@ -95,6 +130,11 @@ public final class Card {
         return rank == card.rank && suit == card.suit;
     }
 
+    @Override
+    public int hashCode() {
+        return ordinal;
+    }
+
     @Override
     public String toString() {
         return "["+ rank + suit +"]";
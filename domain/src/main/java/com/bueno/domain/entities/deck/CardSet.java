@@ -0,0 +1,161 @@
+/*
+ *  Copyright (C) 2021 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.domain.entities.deck;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+//Immutable set of open cards backed by a bitmask in which bit i stands for the card of ordinal i.
+public final class CardSet implements Iterable<Card> {
+
+    public static final CardSet EMPTY = new CardSet(0L);
+    public static final CardSet FULL = new CardSet((1L << Card.NUMBER_OF_OPEN_CARDS) - 1);
+
+    private final long mask;
+
+    private CardSet(long mask) {
+        this.mask = mask;
+    }
+
+    public static CardSet ofMask(long mask){
+        if((mask & ~FULL.mask) != 0)
+            throw new IllegalArgumentException("Mask has bits out of the card ordinal range: " + Long.toHexString(mask));
+        return mask == 0L ? EMPTY : new CardSet(mask);
+    }
+
+    public static CardSet of(Card... cards){
+        long mask = 0L;
+        for (Card card : cards) mask |= bitOf(card);
+        return ofMask(mask);
+    }
+
+    //Closed cards carry no identity, so they are skipped instead of rejected.
+    public static CardSet copyOf(Collection<Card> cards){
+        long mask = 0L;
+        for (Card card : cards) if (!card.isClosed()) mask |= bitOf(card);
+        return ofMask(mask);
+    }
+
+    public static long bitOf(Card card){
+        Objects.requireNonNull(card, "Card must not be null!");
+        if(card.isClosed()) throw new IllegalArgumentException("Closed card can not be part of a card set.");
+        return 1L << card.ordinal();
+    }
+
+    public CardSet add(Card card){
+        final long newMask = mask | bitOf(card);
+        return newMask == mask ? this : new CardSet(newMask);
+    }
+
+    public CardSet remove(Card card){
+        final long newMask = mask & ~bitOf(card);
+        return newMask == mask ? this : ofMask(newMask);
+    }
+
+    public CardSet union(CardSet other){
+        return ofMask(mask | other.mask);
+    }
+
+    public CardSet intersection(CardSet other){
+        return ofMask(mask & other.mask);
+    }
+
+    public CardSet difference(CardSet other){
+        return ofMask(mask & ~other.mask);
+    }
+
+    public boolean contains(Card card){
+        Objects.requireNonNull(card, "Card must not be null!");
+        return !card.isClosed() && (mask & (1L << card.ordinal())) != 0;
+    }
+
+    public int size(){
+        return Long.bitCount(mask);
+    }
+
+    public boolean isEmpty(){
+        return mask == 0L;
+    }
+
+    public long mask() {
+        return mask;
+    }
+
+    //Allocation-free alternative to the iterator: visits cards from the lowest to the highest ordinal.
+    @Override
+    public void forEach(Consumer<? super Card> action) {
+        Objects.requireNonNull(action);
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1)
+            action.accept(Card.ofOrdinal(Long.numberOfTrailingZeros(remaining)));
+    }
+
+    @Override
+    public Iterator<Card> iterator() {
+        return new Iterator<>() {
+            private long remaining = mask;
+
+            @Override
+            public boolean hasNext() {
+                return remaining != 0;
+            }
+
+            @Override
+            public Card next() {
+                if(remaining == 0) throw new NoSuchElementException();
+                final int ordinal = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                return Card.ofOrdinal(ordinal);
+            }
+        };
+    }
+
+    public List<Card> toList(){
+        final List<Card> cards = new ArrayList<>(size());
+        forEach(cards::add);
+        return cards;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CardSet cardSet = (CardSet) o;
+        return mask == cardSet.mask;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(mask);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        forEach(builder::append);
+        return builder.toString();
+    }
+}
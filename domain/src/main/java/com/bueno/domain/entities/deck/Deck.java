@@ -21,38 +21,78 @@
 package com.bueno.domain.entities.deck;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 public class Deck {
-    private final List<Card> cards = new ArrayList<>();
+    private static final Card[] sortedCards = generateSortedDeck();
+
+    private final Card[] cards = sortedCards.clone();
+    private final RandomGenerator random;
+    private int dealt;
+    private boolean shuffled;
 
     public Deck() {
-        generateSortedDeck();
+        this.random = null;
+    }
+
+    public Deck(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    public Deck(RandomGenerator random) {
+        this.random = Objects.requireNonNull(random, "Random generator must not be null!");
     }
 
-    private void generateSortedDeck() {
-        for(Rank rank : Rank.values())
-            for(Suit suit : Suit.values())
-                if(rank != Rank.HIDDEN && suit != Suit.HIDDEN)
-                    cards.add(Card.of(rank, suit));
+    private static Card[] generateSortedDeck() {
+        final Card[] deck = new Card[Card.NUMBER_OF_OPEN_CARDS];
+        for (int ordinal = 0; ordinal < deck.length; ordinal++)
+            deck[ordinal] = Card.ofOrdinal(ordinal);
+        return deck;
     }
 
     public List<Card> take(int numberOfCards) {
-        final List<Card> cardsTaken = new ArrayList<>(cards.subList(0, numberOfCards));
-        cards.removeAll(cardsTaken);
+        if(numberOfCards < 0 || numberOfCards > size())
+            throw new IndexOutOfBoundsException("Can not take " + numberOfCards + " cards from a deck of " + size() + ".");
+        final List<Card> cardsTaken = new ArrayList<>(numberOfCards);
+        for (int i = 0; i < numberOfCards; i++) cardsTaken.add(takeOne());
         return cardsTaken;
     }
 
+    //Once shuffled, each card taken is drawn from the remaining ones and swapped to the dealt section of the array,
+    //a Fisher-Yates shuffle that stops after the cards actually dealt.
     public Card takeOne() {
-        return cards.remove(0);
+        if(dealt == cards.length) throw new IndexOutOfBoundsException("Can not take a card from an empty deck.");
+        if(shuffled) {
+            final RandomGenerator generator = random != null ? random : ThreadLocalRandom.current();
+            final int chosen = dealt + generator.nextInt(cards.length - dealt);
+            final Card card = cards[chosen];
+            cards[chosen] = cards[dealt];
+            cards[dealt] = card;
+        }
+        return cards[dealt++];
+    }
+
+    public void reset() {
+        System.arraycopy(sortedCards, 0, cards, 0, cards.length);
+        dealt = 0;
+        shuffled = false;
     }
 
     public void shuffle() {
-        Collections.shuffle(cards);
+        shuffled = true;
+    }
+
+    public CardSet getRemainingCards() {
+        long mask = 0L;
+        for (int i = dealt; i < cards.length; i++) mask |= CardSet.bitOf(cards[i]);
+        return CardSet.ofMask(mask);
     }
 
     public int size() {
-        return cards.size();
+        return cards.length - dealt;
     }
 }
@@ -25,6 +25,7 @@ import com.bueno.domain.entities.deck.Deck;
 import com.bueno.domain.entities.hand.Hand;
 import com.bueno.domain.entities.hand.HandResult;
 import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.intel.IntelRecordingPolicy;
 import com.bueno.domain.entities.player.Player;
 
 import java.time.Instant;
@@ -44,6 +45,8 @@ public class Game {
 
     private Player firstToPlay;
     private Player lastToPlay;
+    private IntelRecordingPolicy intelRecording = IntelRecordingPolicy.FULL;
+    private long version;
 
     public Game(Player player1, Player player2) {
         this(player1, player2, UUID.randomUUID(), new Deck());
@@ -74,20 +77,62 @@ public class Game {
         this.hands = new ArrayList<>(hands);
     }
 
+    //Creates an independent copy for rollouts. Finished hands are shared, since they no longer change, and the current
+    //hand is forked. The copy deals its next hands from a new deck.
+    public Game fork() {
+        final Player player1Copy = player1.copy();
+        final Player player2Copy = player2.copy();
+        final Player firstToPlayCopy = player1.equals(firstToPlay) ? player1Copy : player2Copy;
+        final Player lastToPlayCopy = player1.equals(lastToPlay) ? player1Copy : player2Copy;
+
+        final List<Hand> handsCopy = new ArrayList<>(hands);
+        if (!handsCopy.isEmpty()) {
+            final Hand current = currentHand();
+            final Player currentFirst = player1.equals(current.getFirstToPlay()) ? player1Copy : player2Copy;
+            final Player currentLast = currentFirst == player1Copy ? player2Copy : player1Copy;
+            handsCopy.set(handsCopy.size() - 1, current.fork(currentFirst, currentLast));
+        }
+        final Game fork = new Game(uuid, timestamp, player1Copy, player2Copy, firstToPlayCopy, lastToPlayCopy, handsCopy);
+        fork.intelRecording = intelRecording;
+        fork.version = version;
+        return fork;
+    }
+
     public void prepareNewHand() {
         defineHandPlayingOrder();
 
         if(deck == null) deck = new Deck();
+        else deck.reset();
         deck.shuffle();
 
         final Card vira = deck.takeOne();
         firstToPlay.setCards(deck.take(3));
         lastToPlay.setCards(deck.take(3));
 
-        final Hand hand = new Hand(firstToPlay, lastToPlay, vira);
+        final Hand hand = new Hand(firstToPlay, lastToPlay, vira, nextIntelSequence(), intelRecording);
         hands.add(hand);
     }
 
+    //Applies to the current hand and to every hand dealt afterwards.
+    public void setIntelRecording(IntelRecordingPolicy policy) {
+        intelRecording = Objects.requireNonNull(policy, "Intel recording policy must not be null!");
+        final Hand current = currentHand();
+        if (current != null) current.setIntelRecording(policy);
+    }
+
+    public IntelRecordingPolicy getIntelRecording() {
+        return intelRecording;
+    }
+
+    //Version of the stored state this game was loaded from or last written as.
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     private void defineHandPlayingOrder() {
         firstToPlay = player1.equals(firstToPlay) ? player2 : player1;
         lastToPlay = firstToPlay.equals(player1) ? player2 : player1;
@@ -121,6 +166,35 @@ public class Game {
         return wholeHistory.stream().filter(isAfter).collect(Collectors.toList());
     }
 
+    //Hands are ordered by the sequence of their intel, so the hand holding the cursor is found by binary search and
+    //only the tail of the game log is copied.
+    public List<Intel> getIntelAfter(long lastIntelSequence) {
+        final List<Intel> intelAfter = new ArrayList<>();
+        for (int i = firstHandWithIntelAfter(lastIntelSequence); i < hands.size(); i++)
+            intelAfter.addAll(hands.get(i).getIntelAfter(lastIntelSequence));
+        if (isDone()) {
+            final Intel gameOver = Intel.ofGame(this);
+            if (gameOver.sequence() > lastIntelSequence) intelAfter.add(gameOver);
+        }
+        return intelAfter;
+    }
+
+    private int firstHandWithIntelAfter(long lastIntelSequence) {
+        int low = 0;
+        int high = hands.size();
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (hands.get(middle).nextIntelSequence() > lastIntelSequence + 1) high = middle;
+            else low = middle + 1;
+        }
+        return low;
+    }
+
+    private long nextIntelSequence() {
+        final Hand current = currentHand();
+        return current == null ? 0 : current.nextIntelSequence();
+    }
+
     public UUID getUuid() {
         return uuid;
     }
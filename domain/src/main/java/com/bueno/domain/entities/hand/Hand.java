@@ -21,10 +21,12 @@
 package com.bueno.domain.entities.hand;
 
 import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.CardSet;
 import com.bueno.domain.entities.game.GameRuleViolationException;
 import com.bueno.domain.entities.hand.states.*;
 import com.bueno.domain.entities.intel.Event;
 import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.intel.IntelRecordingPolicy;
 import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 
@@ -34,9 +36,19 @@ public class Hand {
 
     private final Card vira;
     private final List<Card> dealtCards;
-    private final List<Card> openCards;
-    private final List<Round> roundsPlayed;
-    private final List<Intel> history;
+    private List<Card> openCards;
+    private final CardSet dealtCardSet;
+    private CardSet openCardSet;
+    private List<Round> roundsPlayed;
+    private List<Intel> history;
+    private final long firstIntelSequence;
+    private long intelRecorded;
+    private IntelRecordingPolicy intelRecording = IntelRecordingPolicy.FULL;
+    private Event lastEvent;
+    private Intel lastIntel;
+    private boolean sharesOpenCards;
+    private boolean sharesRoundsPlayed;
+    private boolean sharesHistory;
     private EnumSet<PossibleAction> possibleActions;
 
     private Player firstToPlay;
@@ -61,9 +73,13 @@ public class Hand {
         this.vira = vira;
         this.dealtCards = new ArrayList<>(dealtCards);
         this.openCards = new ArrayList<>(openCards);
+        this.dealtCardSet = CardSet.copyOf(dealtCards);
+        this.openCardSet = CardSet.copyOf(openCards);
         this.roundsPlayed = new ArrayList<>(roundsPlayed);
         this.history = new ArrayList<>(history);
-        this.possibleActions = EnumSet.copyOf(possibleActions);
+        this.firstIntelSequence = history.isEmpty() ? 0 : history.get(0).sequence();
+        this.intelRecorded = history.size();
+        this.lastIntel = history.isEmpty() ? null : history.get(history.size() - 1);
         this.firstToPlay = firstToPlay;
         this.lastToPlay = lastToPlay;
         this.currentPlayer = currentPlayer;
@@ -73,21 +89,72 @@ public class Hand {
         this.points = points;
         this.pointsProposal = pointsProposal;
         this.result = result;
-        this.state = stateFromString(stateName);
+        //Possible actions are derived by the state from the restored fields.
+        setState(HandStates.ofName(stateName));
+    }
+
+    private Hand(Hand other, Player firstToPlay, Player lastToPlay) {
+        this.vira = other.vira;
+        this.dealtCards = other.dealtCards;
+        this.dealtCardSet = other.dealtCardSet;
+        this.openCardSet = other.openCardSet;
+        this.openCards = other.openCards;
+        this.roundsPlayed = other.roundsPlayed;
+        this.history = other.history;
+        this.firstIntelSequence = other.firstIntelSequence;
+        this.intelRecorded = other.intelRecorded;
+        this.intelRecording = other.intelRecording;
+        this.lastEvent = other.lastEvent;
+        this.lastIntel = other.lastIntel;
+        this.sharesOpenCards = other.sharesOpenCards = true;
+        this.sharesRoundsPlayed = other.sharesRoundsPlayed = true;
+        this.sharesHistory = other.sharesHistory = true;
+        this.possibleActions = other.possibleActions;
+        this.firstToPlay = firstToPlay;
+        this.lastToPlay = lastToPlay;
+        this.currentPlayer = other.toForkedPlayer(other.currentPlayer, firstToPlay, lastToPlay);
+        this.lastBetRaiser = other.toForkedPlayer(other.lastBetRaiser, firstToPlay, lastToPlay);
+        this.eventPlayer = other.toForkedPlayer(other.eventPlayer, firstToPlay, lastToPlay);
+        this.cardToPlayAgainst = other.cardToPlayAgainst;
+        this.points = other.points;
+        this.pointsProposal = other.pointsProposal;
+        this.result = other.result;
+        this.state = other.state;
+    }
+
+    //Creates an independent copy of this hand played by the given copies of its players. Lists of open cards,
+    //rounds and intel history are shared and copied by whichever hand appends to them first. Shared rounds and
+    //results keep referencing the original players, which is fine since players are compared by UUID.
+    public Hand fork(Player firstToPlay, Player lastToPlay){
+        Objects.requireNonNull(firstToPlay, "Player must not be null!");
+        Objects.requireNonNull(lastToPlay, "Player must not be null!");
+        if(!firstToPlay.equals(this.firstToPlay) || !lastToPlay.equals(this.lastToPlay))
+            throw new IllegalArgumentException("Forked hand must be played by copies of the same players.");
+        return new Hand(this, firstToPlay, lastToPlay);
     }
 
-    private HandState stateFromString(String stateName) {
-        return switch (stateName){
-            case "DONE" -> new Done(this);
-            case "NOCARD" -> new NoCard(this);
-            case "ONECARD" -> new OneCard(this);
-            case "WAITINGMAODEONZE" -> new WaitingMaoDeOnze(this);
-            case "WAITINGRAISERESPONSE" -> new WaitingRaiseResponse(this);
-            default -> throw new IllegalArgumentException("No state for name: " + stateName);
-        };
+    public Hand fork(){
+        return fork(firstToPlay.copy(), lastToPlay.copy());
+    }
+
+    private Player toForkedPlayer(Player player, Player forkedFirstToPlay, Player forkedLastToPlay) {
+        if(player == null) return null;
+        return player.equals(firstToPlay) ? forkedFirstToPlay : forkedLastToPlay;
     }
 
     public Hand(Player firstToPlay, Player lastToPlay, Card vira){
+        this(firstToPlay, lastToPlay, vira, 0);
+    }
+
+    //The first intel sequence continues the game log, so hands of the same game never reuse a sequence number.
+    public Hand(Player firstToPlay, Player lastToPlay, Card vira, long firstIntelSequence){
+        this(firstToPlay, lastToPlay, vira, firstIntelSequence, IntelRecordingPolicy.FULL);
+    }
+
+    public Hand(Player firstToPlay, Player lastToPlay, Card vira, long firstIntelSequence, IntelRecordingPolicy intelRecording){
+        if(firstIntelSequence < 0) throw new IllegalArgumentException("Intel sequence must not be negative: " + firstIntelSequence);
+        this.firstIntelSequence = firstIntelSequence;
+        this.intelRecording = Objects.requireNonNull(intelRecording, "Intel recording policy must not be null!");
         this.firstToPlay = Objects.requireNonNull(firstToPlay);
         this.lastToPlay = Objects.requireNonNull(lastToPlay);
         this.vira = Objects.requireNonNull(vira);
@@ -96,6 +163,8 @@ public class Hand {
         dealtCards.add(vira);
         dealtCards.addAll(firstToPlay.getCards());
         dealtCards.addAll(lastToPlay.getCards());
+        dealtCardSet = CardSet.copyOf(dealtCards);
+        openCardSet = CardSet.EMPTY;
 
         points = HandPoints.ONE;
         roundsPlayed = new ArrayList<>();
@@ -112,12 +181,12 @@ public class Hand {
 
     private void setMaoDeOnzeMode() {
         currentPlayer = this.firstToPlay.getScore() == 11 ? this.firstToPlay : this.lastToPlay;
-        state = new WaitingMaoDeOnze(this);
+        setState(WaitingMaoDeOnze.INSTANCE);
     }
 
     private void setOrdinaryMode() {
         currentPlayer = this.firstToPlay;
-        state = new NoCard(this);
+        setState(NoCard.INSTANCE);
     }
 
     public void playFirstCard(Player player, Card card){
@@ -125,7 +194,7 @@ public class Hand {
         final var requesterCard = Objects.requireNonNull(card, "Card must not be null!");
         validateRequest(requester, PossibleAction.PLAY);
         eventPlayer = currentPlayer;
-        state.playFirstCard(requester, requesterCard);
+        state.playFirstCard(this, requester, requesterCard);
     }
 
     public void playSecondCard(Player player, Card cards){
@@ -133,28 +202,28 @@ public class Hand {
         final var requesterCard = Objects.requireNonNull(cards, "Card must not be null!");
         validateRequest(requester, PossibleAction.PLAY);
         eventPlayer = currentPlayer;
-        state.playSecondCard(requester,requesterCard);
+        state.playSecondCard(this, requester, requesterCard);
     }
 
     public void raise(Player requester){
         final var player = Objects.requireNonNull(requester, "Player must not be null!");
         validateRequest(requester, PossibleAction.RAISE);
         eventPlayer = currentPlayer;
-        state.raise(player);
+        state.raise(this, player);
     }
 
     public void accept(Player responder){
         final var player = Objects.requireNonNull(responder, "Player must not be null!");
         validateRequest(player, PossibleAction.ACCEPT);
         eventPlayer = currentPlayer;
-        state.accept(player);
+        state.accept(this, player);
     }
 
     public void quit(Player responder){
         final var player = Objects.requireNonNull(responder, "Player must not be null!");
         validateRequest(player, PossibleAction.QUIT);
         eventPlayer = currentPlayer;
-        state.quit(player);
+        state.quit(this, player);
     }
 
     private void validateRequest(Player requester, PossibleAction action){
@@ -165,12 +234,40 @@ public class Hand {
     }
 
     public void updateHistory(Event event) {
-        history.add(Intel.ofHand(this, event));
+        final long sequence = firstIntelSequence + intelRecorded++;
+        lastEvent = event;
+        if(intelRecording == IntelRecordingPolicy.NONE) {
+            lastIntel = null;
+            return;
+        }
+        lastIntel = Intel.ofHand(this, event, sequence, lastIntel);
+        if(sharesHistory) {
+            history = intelRecording == IntelRecordingPolicy.FULL ? new ArrayList<>(history) : new ArrayList<>(1);
+            sharesHistory = false;
+        }
+        else if(intelRecording == IntelRecordingPolicy.LAST_ONLY) history.clear();
+        history.add(lastIntel);
+    }
+
+    //Changing to a less complete policy drops the history that it would not have kept.
+    public void setIntelRecording(IntelRecordingPolicy policy){
+        this.intelRecording = Objects.requireNonNull(policy, "Intel recording policy must not be null!");
+        if(policy == IntelRecordingPolicy.FULL || history.isEmpty()) return;
+        history = policy == IntelRecordingPolicy.LAST_ONLY ? new ArrayList<>(List.of(getLastIntel())) : new ArrayList<>();
+        sharesHistory = false;
+    }
+
+    public IntelRecordingPolicy getIntelRecording() {
+        return intelRecording;
     }
 
     public void playRound(Card lastCard){
         final var round = new Round(firstToPlay, cardToPlayAgainst, lastToPlay, lastCard, vira);
         round.play();
+        if(sharesRoundsPlayed) {
+            roundsPlayed = new ArrayList<>(roundsPlayed);
+            sharesRoundsPlayed = false;
+        }
         roundsPlayed.add(round);
     }
 
@@ -188,10 +285,23 @@ public class Hand {
     }
 
     public void addOpenCard(Card card){
-        if(!dealtCards.contains(card) && !card.equals(Card.closed()))
+        if(card.isClosed()){
+            addToOpenCards(card);
+            return;
+        }
+        if(!dealtCardSet.contains(card))
             throw new GameRuleViolationException("Card has not been dealt in this hand.");
-        if(openCards.contains(card) && !card.equals(Card.closed()) )
+        if(openCardSet.contains(card))
             throw new GameRuleViolationException("Card " + card + " has already been played during hand.");
+        openCardSet = openCardSet.add(card);
+        addToOpenCards(card);
+    }
+
+    private void addToOpenCards(Card card) {
+        if(sharesOpenCards) {
+            openCards = new ArrayList<>(openCards);
+            sharesOpenCards = false;
+        }
         openCards.add(card);
     }
 
@@ -245,16 +355,19 @@ public class Hand {
         return Optional.ofNullable(result);
     }
 
-    public EnumSet<PossibleAction> getPossibleActions() {
-        return possibleActions;
+    //The set may be shared with other hands, so callers only get a read-only view of it.
+    public Set<PossibleAction> getPossibleActions() {
+        return Collections.unmodifiableSet(possibleActions);
     }
 
     public void setPossibleActions(EnumSet<PossibleAction> actions){
-        this.possibleActions = EnumSet.copyOf(actions);
+        this.possibleActions = actions;
     }
 
+    //Without recording, the intel of the last event is built from the current state when first requested.
     public Intel getLastIntel(){
-        return history.get(history.size() - 1);
+        if(lastIntel == null && lastEvent != null) lastIntel = Intel.ofHand(this, lastEvent, nextIntelSequence() - 1, null);
+        return lastIntel;
     }
 
     public Player getOpponentOf(Player player){
@@ -297,18 +410,42 @@ public class Hand {
         this.lastBetRaiser = lastBetRaiser;
     }
 
+    //Forks share the open cards until one of them adds a card, so callers only get a read-only view.
     public List<Card> getOpenCards() {
-        return openCards;
+        return Collections.unmodifiableList(openCards);
     }
 
     public List<Card> getDealtCards() {
         return new ArrayList<>(dealtCards);
     }
 
+    public CardSet getOpenCardSet() {
+        return openCardSet;
+    }
+
+    public CardSet getDealtCardSet() {
+        return dealtCardSet;
+    }
+
     public List<Intel> getIntelHistory(){
         return List.copyOf(history);
     }
 
+    //Intel recorded after the given sequence, copying only the tail of the history.
+    public List<Intel> getIntelAfter(long lastIntelSequence){
+        final long fromIndex = Math.max(0, lastIntelSequence - (nextIntelSequence() - history.size()) + 1);
+        if(fromIndex >= history.size()) return List.of();
+        return List.copyOf(history.subList((int) fromIndex, history.size()));
+    }
+
+    public long getFirstIntelSequence() {
+        return firstIntelSequence;
+    }
+
+    public long nextIntelSequence() {
+        return firstIntelSequence + intelRecorded;
+    }
+
     public Player getLastBetRaiser() {
         return lastBetRaiser;
     }
@@ -319,6 +456,7 @@ public class Hand {
 
     public void setState(HandState state) {
         this.state = state;
+        state.enter(this);
     }
 
     public Card getVira() {
@@ -60,13 +60,18 @@ public class Round {
     }
 
     public void play() {
-        final Optional<Card> possibleWinnerCard = getWinnerCard();
-        this.winner = possibleWinnerCard.map(c -> c.equals(firstCard)? firstToPlay : lastToPlay).orElse(null);
+        final int comparison = compareCards();
+        this.winner = comparison == 0 ? null : comparison > 0 ? firstToPlay : lastToPlay;
     }
 
     public Optional<Card> getWinnerCard(){
-        if (firstCard.compareValueTo(lastCard, vira) == 0) return Optional.empty();
-        return firstCard.compareValueTo(lastCard, vira) > 0 ? Optional.of(firstCard) : Optional.of(lastCard);
+        final int comparison = compareCards();
+        if (comparison == 0) return Optional.empty();
+        return comparison > 0 ? Optional.of(firstCard) : Optional.of(lastCard);
+    }
+
+    private int compareCards() {
+        return Card.strength(firstCard, vira) - Card.strength(lastCard, vira);
     }
 
     public Optional<Player> getWinner() {
@@ -96,7 +101,7 @@ public class Round {
     @Override
     public String toString() {
         String result = winner == null ? "Draw" : winner.getUsername() + " wins";
-        String winningCard = getWinnerCard().isEmpty() || winner == null ? "--" : getWinnerCard().get().toString();
+        String winningCard = winner == null ? "--" : getWinnerCard().map(Card::toString).orElse("--");
         return String.format("Round = %s x %s (Vira %s) - Result: %s (%s)", firstCard, lastCard, vira, result, winningCard);
     }
 }
@@ -0,0 +1,569 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.domain.entities.hand;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.CardSet;
+import com.bueno.domain.entities.game.GameRuleViolationException;
+import com.bueno.domain.entities.hand.states.Done;
+import com.bueno.domain.entities.hand.states.NoCard;
+import com.bueno.domain.entities.hand.states.OneCard;
+import com.bueno.domain.entities.hand.states.WaitingMaoDeOnze;
+import com.bueno.domain.entities.hand.states.WaitingRaiseResponse;
+import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.entities.player.Player;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+//Immutable hand state packed into four longs, meant for search and simulation. It follows the same rules as Hand,
+//but players are identified only by seat (0 or 1) and actions are int codes, so no collection is allocated per move.
+public final class TrucoState {
+
+    public static final int NO_SEAT = -1;
+    public static final int DRAW = 2;
+    public static final int MAX_ACTIONS = 9;
+
+    public static final int RAISE = 3 << 6;
+    public static final int ACCEPT = 4 << 6;
+    public static final int QUIT = 5 << 6;
+    private static final int PLAY_KIND = 1;
+    private static final int DISCARD_KIND = 2;
+
+    private static final int NO_CARD = 0;
+    private static final int ONE_CARD = 1;
+    private static final int WAITING_RAISE_RESPONSE = 2;
+    private static final int WAITING_MAO_DE_ONZE = 3;
+    private static final int DONE = 4;
+
+    private static final int CARD_BITS = 6;
+    private static final int NO_CARD_CODE = 0;
+    private static final int CLOSED_CARD_CODE = Card.NUMBER_OF_OPEN_CARDS + 1;
+
+    //hand0: seat 0 cards mask (bits 0-39) | vira code (40-45) | card to play against code (46-51)
+    private static final int VIRA_SHIFT = 40;
+    private static final int PENDING_CARD_SHIFT = 46;
+
+    //rounds: 15 bits per round = first card code (6) | last card code (6) | first to play seat (1) | winner code (2)
+    private static final int ROUND_BITS = 15;
+    private static final int ROUND_FIRST_SEAT_SHIFT = 12;
+    private static final int ROUND_WINNER_SHIFT = 13;
+
+    //meta: seat codes are 0 for none, 1 for seat 0 and 2 for seat 1. Winner codes also use 3 for draw.
+    private static final int SCORE_0_SHIFT = 0;
+    private static final int SCORE_1_SHIFT = 4;
+    private static final int POINTS_SHIFT = 8;
+    private static final int PROPOSAL_SHIFT = 11;
+    private static final int CURRENT_SHIFT = 14;
+    private static final int FIRST_SHIFT = 16;
+    private static final int LAST_RAISER_SHIFT = 17;
+    private static final int PHASE_SHIFT = 19;
+    private static final int RESULT_WINNER_SHIFT = 22;
+    private static final int RESULT_POINTS_SHIFT = 24;
+    private static final int ROUNDS_PLAYED_SHIFT = 27;
+
+    private static final HandPoints[] handPoints = HandPoints.values();
+
+    private final long hand0;
+    private final long hand1;
+    private final long rounds;
+    private final long meta;
+
+    private TrucoState(long hand0, long hand1, long rounds, long meta) {
+        this.hand0 = hand0;
+        this.hand1 = hand1;
+        this.rounds = rounds;
+        this.meta = meta;
+    }
+
+    //Seat 0 is the first to play in the new hand.
+    public static TrucoState ofNewHand(Card vira, CardSet firstToPlayCards, CardSet lastToPlayCards,
+                                       int firstToPlayScore, int lastToPlayScore){
+        Objects.requireNonNull(vira, "Vira must not be null!");
+        Objects.requireNonNull(firstToPlayCards, "Cards must not be null!");
+        Objects.requireNonNull(lastToPlayCards, "Cards must not be null!");
+        if(vira.isClosed()) throw new IllegalArgumentException("Vira must be an open card.");
+        if(!firstToPlayCards.intersection(lastToPlayCards).isEmpty() || firstToPlayCards.contains(vira)
+                || lastToPlayCards.contains(vira))
+            throw new GameRuleViolationException("Cards in the deck must be unique!");
+        validateScore(firstToPlayScore);
+        validateScore(lastToPlayScore);
+
+        final boolean isMaoDeOnze = firstToPlayScore == 11 ^ lastToPlayScore == 11;
+        final int currentSeat = isMaoDeOnze && lastToPlayScore == 11 ? 1 : 0;
+        long meta = 0L;
+        meta = with(meta, SCORE_0_SHIFT, 4, firstToPlayScore);
+        meta = with(meta, SCORE_1_SHIFT, 4, lastToPlayScore);
+        meta = with(meta, POINTS_SHIFT, 3, HandPoints.ONE.ordinal());
+        meta = with(meta, CURRENT_SHIFT, 2, seatCode(currentSeat));
+        meta = with(meta, PHASE_SHIFT, 3, isMaoDeOnze ? WAITING_MAO_DE_ONZE : NO_CARD);
+        final long hand0 = with(firstToPlayCards.mask(), VIRA_SHIFT, CARD_BITS, cardCode(vira));
+        return new TrucoState(hand0, lastToPlayCards.mask(), 0L, meta);
+    }
+
+    private static void validateScore(int score) {
+        if(score < 0 || score > Player.MAX_SCORE) throw new IllegalArgumentException("Invalid score: " + score);
+    }
+
+    public static TrucoState fromHand(Hand hand, Player player0){
+        Objects.requireNonNull(hand, "Hand must not be null!");
+        Objects.requireNonNull(player0, "Player must not be null!");
+        if(!player0.equals(hand.getFirstToPlay()) && !player0.equals(hand.getLastToPlay()))
+            throw new IllegalArgumentException(player0 + " is not playing this hand.");
+
+        final Player seat0 = player0.equals(hand.getFirstToPlay()) ? hand.getFirstToPlay() : hand.getLastToPlay();
+        final Player player1 = hand.getOpponentOf(seat0);
+        long hand0 = with(seat0.getCardSet().mask(), VIRA_SHIFT, CARD_BITS, cardCode(hand.getVira()));
+        hand0 = with(hand0, PENDING_CARD_SHIFT, CARD_BITS, hand.getCardToPlayAgainst().map(TrucoState::cardCode).orElse(NO_CARD_CODE));
+
+        long rounds = 0L;
+        final List<Round> roundsPlayed = hand.getRoundsPlayed();
+        for (int i = 0; i < roundsPlayed.size(); i++) {
+            final Round round = roundsPlayed.get(i);
+            long roundBits = cardCode(round.getFirstCard());
+            roundBits |= (long) cardCode(round.getLastCard()) << CARD_BITS;
+            roundBits |= (long) seatOf(round.getFirstToPlay(), player0) << ROUND_FIRST_SEAT_SHIFT;
+            roundBits |= (long) round.getWinner().map(winner -> seatCode(seatOf(winner, player0))).orElse(3) << ROUND_WINNER_SHIFT;
+            rounds |= roundBits << (i * ROUND_BITS);
+        }
+
+        long meta = 0L;
+        meta = with(meta, SCORE_0_SHIFT, 4, seat0.getScore());
+        meta = with(meta, SCORE_1_SHIFT, 4, player1.getScore());
+        meta = with(meta, POINTS_SHIFT, 3, hand.getPoints().ordinal());
+        meta = with(meta, PROPOSAL_SHIFT, 3, hand.getPointsProposal() == null ? 0 : hand.getPointsProposal().ordinal());
+        meta = with(meta, CURRENT_SHIFT, 2, optionalSeatCode(hand.getCurrentPlayer(), player0));
+        meta = with(meta, FIRST_SHIFT, 1, seatOf(hand.getFirstToPlay(), player0));
+        meta = with(meta, LAST_RAISER_SHIFT, 2, optionalSeatCode(hand.getLastBetRaiser(), player0));
+        meta = with(meta, PHASE_SHIFT, 3, phaseOf(hand.getState().className()));
+        meta = with(meta, ROUNDS_PLAYED_SHIFT, 2, roundsPlayed.size());
+        if(hand.getResult().isPresent()){
+            final HandResult result = hand.getResult().get();
+            meta = with(meta, RESULT_WINNER_SHIFT, 2, result.getWinner().map(winner -> seatCode(seatOf(winner, player0))).orElse(3));
+            meta = with(meta, RESULT_POINTS_SHIFT, 3, result.getPoints().ordinal());
+        }
+        return new TrucoState(hand0, player1.getCardSet().mask(), rounds, meta);
+    }
+
+    private static int phaseOf(String stateName) {
+        if(stateName.equals(NoCard.INSTANCE.className())) return NO_CARD;
+        if(stateName.equals(OneCard.INSTANCE.className())) return ONE_CARD;
+        if(stateName.equals(WaitingRaiseResponse.INSTANCE.className())) return WAITING_RAISE_RESPONSE;
+        if(stateName.equals(WaitingMaoDeOnze.INSTANCE.className())) return WAITING_MAO_DE_ONZE;
+        if(stateName.equals(Done.INSTANCE.className())) return DONE;
+        throw new IllegalArgumentException("No state for name: " + stateName);
+    }
+
+    private static String stateNameOf(int phase) {
+        return switch (phase) {
+            case NO_CARD -> NoCard.INSTANCE.className();
+            case ONE_CARD -> OneCard.INSTANCE.className();
+            case WAITING_RAISE_RESPONSE -> WaitingRaiseResponse.INSTANCE.className();
+            case WAITING_MAO_DE_ONZE -> WaitingMaoDeOnze.INSTANCE.className();
+            default -> Done.INSTANCE.className();
+        };
+    }
+
+    //Builds a new hand with copies of the given players holding the cards and scores of this state.
+    //The packed state has no intel history, so the returned hand starts with an empty one.
+    public Hand toHand(Player player0, Player player1){
+        Objects.requireNonNull(player0, "Player must not be null!");
+        Objects.requireNonNull(player1, "Player must not be null!");
+        final Player seat0 = new Player(cards(0).toList(), player0.getUsername(), player0.getUuid(), score(0), player0.isBot());
+        final Player seat1 = new Player(cards(1).toList(), player1.getUsername(), player1.getUuid(), score(1), player1.isBot());
+        final Player[] seats = {seat0, seat1};
+        final Card vira = getVira();
+
+        final List<Card> openCards = new ArrayList<>();
+        final List<Round> roundsPlayed = new ArrayList<>();
+        openCards.add(vira);
+        for (int i = 0; i < roundsPlayed(); i++) {
+            final Card firstCard = cardOf(roundField(i, 0, CARD_BITS));
+            final Card lastCard = cardOf(roundField(i, CARD_BITS, CARD_BITS));
+            final int firstSeat = roundField(i, ROUND_FIRST_SEAT_SHIFT, 1);
+            final int winner = roundWinner(i);
+            roundsPlayed.add(new Round(seats[firstSeat], firstCard, seats[1 - firstSeat], lastCard, vira,
+                    winner == DRAW ? null : seats[winner]));
+            openCards.add(firstCard);
+            openCards.add(lastCard);
+        }
+        getCardToPlayAgainst().ifPresent(openCards::add);
+
+        final List<Card> dealtCards = new ArrayList<>(openCards);
+        dealtCards.addAll(seat0.getCards());
+        dealtCards.addAll(seat1.getCards());
+
+        final HandResult result = switch (resultWinner()) {
+            case NO_SEAT -> null;
+            case DRAW -> HandResult.ofDraw();
+            default -> HandResult.of(seats[resultWinner()], getResultPoints());
+        };
+        final int firstSeat = firstToPlaySeat();
+
+        return new Hand(vira, dealtCards, openCards, roundsPlayed, List.of(), EnumSet.noneOf(PossibleAction.class),
+                seats[firstSeat], seats[1 - firstSeat], seatOrNull(seats, currentSeat()), seatOrNull(seats, lastBetRaiserSeat()),
+                null, getCardToPlayAgainst().orElse(null), getPoints(), getPointsProposal(), result, stateNameOf(phase()));
+    }
+
+    private static Player seatOrNull(Player[] seats, int seat) {
+        return seat == NO_SEAT ? null : seats[seat];
+    }
+
+    public static int play(Card card){
+        return PLAY_KIND << 6 | openOrdinal(card);
+    }
+
+    public static int discard(Card card){
+        return DISCARD_KIND << 6 | openOrdinal(card);
+    }
+
+    private static int openOrdinal(Card card) {
+        Objects.requireNonNull(card, "Card must not be null!");
+        if(card.isClosed()) throw new IllegalArgumentException("Use the open card to build a discard action.");
+        return card.ordinal();
+    }
+
+    public static Card cardOfAction(int action){
+        final int kind = action >>> 6;
+        if(kind != PLAY_KIND && kind != DISCARD_KIND) throw new IllegalArgumentException("Action has no card: " + action);
+        return Card.ofOrdinal(action & 63);
+    }
+
+    public static boolean isDiscard(int action){
+        return action >>> 6 == DISCARD_KIND;
+    }
+
+    //Fills the buffer, which must hold at least MAX_ACTIONS elements, and returns the number of legal actions.
+    public int legalActions(int[] actions){
+        int count = 0;
+        final int phase = phase();
+        if(phase == NO_CARD || phase == ONE_CARD){
+            final long cards = currentSeat() == 0 ? hand0 & CardSet.FULL.mask() : hand1;
+            for (long remaining = cards; remaining != 0; remaining &= remaining - 1)
+                actions[count++] = PLAY_KIND << 6 | Long.numberOfTrailingZeros(remaining);
+            if(roundsPlayed() > 0)
+                for (long remaining = cards; remaining != 0; remaining &= remaining - 1)
+                    actions[count++] = DISCARD_KIND << 6 | Long.numberOfTrailingZeros(remaining);
+        }
+        if(phase != DONE && phase != WAITING_MAO_DE_ONZE && canRaiseBet()) actions[count++] = RAISE;
+        if(phase == WAITING_RAISE_RESPONSE || phase == WAITING_MAO_DE_ONZE){
+            actions[count++] = ACCEPT;
+            actions[count++] = QUIT;
+        }
+        return count;
+    }
+
+    public boolean isLegal(int action){
+        final int phase = phase();
+        final int kind = action >>> 6;
+        return switch (kind) {
+            case PLAY_KIND, DISCARD_KIND -> (phase == NO_CARD || phase == ONE_CARD)
+                    && (action & 63) < Card.NUMBER_OF_OPEN_CARDS
+                    && (currentCards() & 1L << (action & 63)) != 0
+                    && (kind == PLAY_KIND || roundsPlayed() > 0);
+            case 3 -> action == RAISE && phase != DONE && phase != WAITING_MAO_DE_ONZE && canRaiseBet();
+            case 4, 5 -> (action & 63) == 0 && (phase == WAITING_RAISE_RESPONSE || phase == WAITING_MAO_DE_ONZE);
+            default -> false;
+        };
+    }
+
+    public TrucoState apply(int action){
+        if(!isLegal(action))
+            throw new IllegalStateException("Can not " + actionToString(action) + " in state " + this + ".");
+        return switch (action >>> 6) {
+            case PLAY_KIND -> playCard(action & 63, false);
+            case DISCARD_KIND -> playCard(action & 63, true);
+            case 3 -> raise();
+            case 4 -> accept();
+            default -> quit();
+        };
+    }
+
+    private TrucoState playCard(int ordinal, boolean discard) {
+        final int seat = currentSeat();
+        final int firstSeat = firstToPlaySeat();
+        final int code = discard ? CLOSED_CARD_CODE : ordinal + 1;
+        long hand0 = seat == 0 ? this.hand0 & ~(1L << ordinal) : this.hand0;
+        final long hand1 = seat == 1 ? this.hand1 & ~(1L << ordinal) : this.hand1;
+        long meta = this.meta;
+
+        if(phase() == NO_CARD){
+            hand0 = with(hand0, PENDING_CARD_SHIFT, CARD_BITS, code);
+            meta = with(meta, CURRENT_SHIFT, 2, seatCode(1 - firstSeat));
+            meta = with(meta, PHASE_SHIFT, 3, ONE_CARD);
+            return new TrucoState(hand0, hand1, rounds, meta);
+        }
+
+        final int firstCode = field(hand0, PENDING_CARD_SHIFT, CARD_BITS);
+        final Card vira = getVira();
+        final int comparison = Card.strength(cardOf(firstCode), vira) - Card.strength(cardOf(code), vira);
+        final int winnerCode = comparison == 0 ? 3 : seatCode(comparison > 0 ? firstSeat : 1 - firstSeat);
+        final int round = roundsPlayed();
+        long roundBits = firstCode | (long) code << CARD_BITS | (long) firstSeat << ROUND_FIRST_SEAT_SHIFT
+                | (long) winnerCode << ROUND_WINNER_SHIFT;
+        final long rounds = this.rounds | roundBits << (round * ROUND_BITS);
+        hand0 = with(hand0, PENDING_CARD_SHIFT, CARD_BITS, NO_CARD_CODE);
+        meta = with(meta, ROUNDS_PLAYED_SHIFT, 2, round + 1);
+
+        int handWinnerCode = 0;
+        if(round == 1){
+            final int firstRoundWinner = winnerCodeOf(rounds, 0);
+            if(firstRoundWinner == 3 && winnerCode != 3) handWinnerCode = winnerCode;
+            else if(firstRoundWinner != 3 && winnerCode == 3) handWinnerCode = firstRoundWinner;
+            else if(winnerCode != 3 && winnerCode == firstRoundWinner) handWinnerCode = winnerCode;
+        } else if(round == 2){
+            final int firstRoundWinner = winnerCodeOf(rounds, 0);
+            handWinnerCode = winnerCode == 3 && firstRoundWinner != 3 ? firstRoundWinner : winnerCode;
+        }
+
+        if(handWinnerCode != 0){
+            final int resultPoints = handWinnerCode == 3 ? HandPoints.ZERO.ordinal() : field(meta, POINTS_SHIFT, 3);
+            meta = with(meta, RESULT_WINNER_SHIFT, 2, handWinnerCode);
+            meta = with(meta, RESULT_POINTS_SHIFT, 3, resultPoints);
+            meta = with(meta, CURRENT_SHIFT, 2, 0);
+            meta = with(meta, PHASE_SHIFT, 3, DONE);
+            return new TrucoState(hand0, hand1, rounds, meta);
+        }
+
+        final int nextFirstSeat = winnerCode == seatCode(1 - firstSeat) ? 1 - firstSeat : firstSeat;
+        meta = with(meta, FIRST_SHIFT, 1, nextFirstSeat);
+        meta = with(meta, CURRENT_SHIFT, 2, seatCode(nextFirstSeat));
+        meta = with(meta, PHASE_SHIFT, 3, NO_CARD);
+        return new TrucoState(hand0, hand1, rounds, meta);
+    }
+
+    private TrucoState raise() {
+        final int seat = currentSeat();
+        final int phase = phase();
+        long meta = this.meta;
+        HandPoints points = getPoints();
+        if(phase == WAITING_RAISE_RESPONSE && getPointsProposal() != null) {
+            points = getPointsProposal();
+            meta = with(meta, POINTS_SHIFT, 3, points.ordinal());
+        }
+        final int nextSeat = switch (phase) {
+            case NO_CARD -> 1 - firstToPlaySeat();
+            case ONE_CARD -> firstToPlaySeat();
+            default -> 1 - seat;
+        };
+        meta = with(meta, PROPOSAL_SHIFT, 3, points.increase().ordinal());
+        meta = with(meta, LAST_RAISER_SHIFT, 2, seatCode(seat));
+        meta = with(meta, CURRENT_SHIFT, 2, seatCode(nextSeat));
+        meta = with(meta, PHASE_SHIFT, 3, WAITING_RAISE_RESPONSE);
+        return new TrucoState(hand0, hand1, rounds, meta);
+    }
+
+    private TrucoState accept() {
+        long meta = this.meta;
+        final int firstSeat = firstToPlaySeat();
+        if(phase() == WAITING_MAO_DE_ONZE){
+            meta = with(meta, POINTS_SHIFT, 3, HandPoints.THREE.ordinal());
+            meta = with(meta, CURRENT_SHIFT, 2, seatCode(firstSeat));
+            meta = with(meta, PHASE_SHIFT, 3, NO_CARD);
+            return new TrucoState(hand0, hand1, rounds, meta);
+        }
+        final boolean hasCardToPlayAgainst = field(hand0, PENDING_CARD_SHIFT, CARD_BITS) != NO_CARD_CODE;
+        meta = with(meta, POINTS_SHIFT, 3, field(meta, PROPOSAL_SHIFT, 3));
+        meta = with(meta, PROPOSAL_SHIFT, 3, 0);
+        meta = with(meta, CURRENT_SHIFT, 2, seatCode(hasCardToPlayAgainst ? 1 - firstSeat : firstSeat));
+        meta = with(meta, PHASE_SHIFT, 3, hasCardToPlayAgainst ? ONE_CARD : NO_CARD);
+        return new TrucoState(hand0, hand1, rounds, meta);
+    }
+
+    private TrucoState quit() {
+        long meta = this.meta;
+        final HandPoints points = phase() == WAITING_MAO_DE_ONZE ? HandPoints.ONE : getPoints();
+        meta = with(meta, RESULT_WINNER_SHIFT, 2, seatCode(1 - currentSeat()));
+        meta = with(meta, RESULT_POINTS_SHIFT, 3, points.ordinal());
+        meta = with(meta, CURRENT_SHIFT, 2, 0);
+        meta = with(meta, PHASE_SHIFT, 3, DONE);
+        return new TrucoState(hand0, hand1, rounds, meta);
+    }
+
+    private boolean canRaiseBet(){
+        final int score0 = score(0);
+        final int score1 = score(1);
+        if(field(meta, CURRENT_SHIFT, 2) == field(meta, LAST_RAISER_SHIFT, 2)) return false;
+        if(score0 >= 11 || score1 >= 11) return false;
+        final int pointsToLosingPlayerWin = Player.MAX_SCORE - Math.min(score0, score1);
+        final int maxHandPoints = pointsToLosingPlayerWin % 3 == 0 ? pointsToLosingPlayerWin
+                : pointsToLosingPlayerWin + (3 - pointsToLosingPlayerWin % 3);
+        final HandPoints points = getPoints();
+        if(points.get() >= 12 || points.increase().get() > maxHandPoints) return false;
+        final HandPoints proposal = getPointsProposal();
+        return proposal == null || proposal.get() < 12 && proposal.increase().get() <= maxHandPoints;
+    }
+
+    public Card getVira() {
+        return cardOf(field(hand0, VIRA_SHIFT, CARD_BITS));
+    }
+
+    public CardSet cards(int seat) {
+        return CardSet.ofMask(seat == 0 ? hand0 & CardSet.FULL.mask() : hand1);
+    }
+
+    private long currentCards() {
+        return currentSeat() == 0 ? hand0 & CardSet.FULL.mask() : hand1;
+    }
+
+    public Optional<Card> getCardToPlayAgainst() {
+        final int code = field(hand0, PENDING_CARD_SHIFT, CARD_BITS);
+        return code == NO_CARD_CODE ? Optional.empty() : Optional.of(cardOf(code));
+    }
+
+    public int score(int seat) {
+        return field(meta, seat == 0 ? SCORE_0_SHIFT : SCORE_1_SHIFT, 4);
+    }
+
+    public HandPoints getPoints() {
+        return handPoints[field(meta, POINTS_SHIFT, 3)];
+    }
+
+    public HandPoints getPointsProposal() {
+        final int proposal = field(meta, PROPOSAL_SHIFT, 3);
+        return proposal == 0 ? null : handPoints[proposal];
+    }
+
+    public int currentSeat() {
+        return seatOfCode(field(meta, CURRENT_SHIFT, 2));
+    }
+
+    public int firstToPlaySeat() {
+        return field(meta, FIRST_SHIFT, 1);
+    }
+
+    public int lastBetRaiserSeat() {
+        return seatOfCode(field(meta, LAST_RAISER_SHIFT, 2));
+    }
+
+    public int roundsPlayed() {
+        return field(meta, ROUNDS_PLAYED_SHIFT, 2);
+    }
+
+    //Returns the winner seat of a played round, or DRAW.
+    public int roundWinner(int round) {
+        if(round < 0 || round >= roundsPlayed()) throw new IllegalArgumentException("Round not played: " + round);
+        return seatOfCode(winnerCodeOf(rounds, round));
+    }
+
+    public boolean isMaoDeOnze() {
+        return score(0) == 11 ^ score(1) == 11;
+    }
+
+    public boolean isDone() {
+        return phase() == DONE;
+    }
+
+    //Returns the winner seat, DRAW, or NO_SEAT while the hand is not done.
+    public int resultWinner() {
+        return seatOfCode(field(meta, RESULT_WINNER_SHIFT, 2));
+    }
+
+    public HandPoints getResultPoints() {
+        return handPoints[field(meta, RESULT_POINTS_SHIFT, 3)];
+    }
+
+    private int phase() {
+        return field(meta, PHASE_SHIFT, 3);
+    }
+
+    private int roundField(int round, int shift, int bits) {
+        return field(rounds, round * ROUND_BITS + shift, bits);
+    }
+
+    private static int winnerCodeOf(long rounds, int round) {
+        return field(rounds, round * ROUND_BITS + ROUND_WINNER_SHIFT, 2);
+    }
+
+    private static int field(long word, int shift, int bits) {
+        return (int) (word >>> shift & ((1L << bits) - 1));
+    }
+
+    private static long with(long word, int shift, int bits, int value) {
+        final long mask = ((1L << bits) - 1) << shift;
+        return word & ~mask | ((long) value << shift) & mask;
+    }
+
+    private static int cardCode(Card card) {
+        return card.isClosed() ? CLOSED_CARD_CODE : card.ordinal() + 1;
+    }
+
+    private static Card cardOf(int code) {
+        return code == CLOSED_CARD_CODE ? Card.closed() : Card.ofOrdinal(code - 1);
+    }
+
+    private static int seatCode(int seat) {
+        return seat + 1;
+    }
+
+    private static int seatOfCode(int code) {
+        return switch (code) {
+            case 0 -> NO_SEAT;
+            case 3 -> DRAW;
+            default -> code - 1;
+        };
+    }
+
+    private static int seatOf(Player player, Player player0) {
+        return player.equals(player0) ? 0 : 1;
+    }
+
+    private static int optionalSeatCode(Player player, Player player0) {
+        return player == null ? 0 : seatCode(seatOf(player, player0));
+    }
+
+    public static String actionToString(int action) {
+        return switch (action >>> 6) {
+            case PLAY_KIND -> "PLAY " + Card.ofOrdinal(action & 63);
+            case DISCARD_KIND -> "DISCARD " + Card.ofOrdinal(action & 63);
+            case 3 -> PossibleAction.RAISE.toString();
+            case 4 -> PossibleAction.ACCEPT.toString();
+            case 5 -> PossibleAction.QUIT.toString();
+            default -> "UNKNOWN(" + action + ")";
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TrucoState that = (TrucoState) o;
+        return hand0 == that.hand0 && hand1 == that.hand1 && rounds == that.rounds && meta == that.meta;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(hand0);
+        result = 31 * result + Long.hashCode(hand1);
+        result = 31 * result + Long.hashCode(rounds);
+        return 31 * result + Long.hashCode(meta);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TrucoState = vira %s, seat 0 %s (%d), seat 1 %s (%d), %s, %d round(s), %s, current seat %d",
+                getVira(), cards(0), score(0), cards(1), score(1), stateNameOf(phase()), roundsPlayed(), getPoints(), currentSeat());
+    }
+}
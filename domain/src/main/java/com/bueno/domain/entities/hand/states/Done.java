@@ -22,40 +22,43 @@ package com.bueno.domain.entities.hand.states;
 
 import com.bueno.domain.entities.deck.Card;
 import com.bueno.domain.entities.hand.Hand;
-import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 
-import java.util.EnumSet;
+public final class Done implements HandState {
 
-public class Done implements HandState {
+    public static final Done INSTANCE = new Done();
 
-    public Done(Hand context){
+    private Done() {
+    }
+
+    @Override
+    public void enter(Hand context) {
         context.setCurrentPlayer(null);
-        context.setPossibleActions(EnumSet.noneOf(PossibleAction.class));
+        context.setPossibleActions(HandStates.NONE);
     }
 
     @Override
-    public void playFirstCard(Player player, Card card) {
+    public void playFirstCard(Hand context, Player player, Card card) {
         throw new IllegalStateException("Can not play card because hand is done.");
     }
 
     @Override
-    public void playSecondCard(Player player, Card card) {
+    public void playSecondCard(Hand context, Player player, Card card) {
         throw new IllegalStateException("Can not play card because hand is done.");
     }
 
     @Override
-    public void accept(Player responder) {
+    public void accept(Hand context, Player responder) {
         throw new IllegalStateException("Can not accept bet because hand is done.");
     }
 
     @Override
-    public void quit(Player responder) {
+    public void quit(Hand context, Player responder) {
         throw new IllegalStateException("Can not quit hand because hand is done.");
     }
 
     @Override
-    public void raise(Player requester) {
+    public void raise(Hand context, Player requester) {
         throw new IllegalStateException("Can not bet because hand is done.");
     }
 }
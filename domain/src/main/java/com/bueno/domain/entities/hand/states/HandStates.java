@@ -0,0 +1,54 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.entities.hand.states;
+
+import com.bueno.domain.entities.intel.PossibleAction;
+
+import java.util.EnumSet;
+import java.util.Map;
+
+//Transition table support: state lookup by persisted name and the possible action sets shared by all hands.
+//The sets are shared, so they must never be modified.
+public final class HandStates {
+
+    static final EnumSet<PossibleAction> NONE = EnumSet.noneOf(PossibleAction.class);
+    static final EnumSet<PossibleAction> PLAY = EnumSet.of(PossibleAction.PLAY);
+    static final EnumSet<PossibleAction> PLAY_OR_RAISE = EnumSet.of(PossibleAction.PLAY, PossibleAction.RAISE);
+    static final EnumSet<PossibleAction> ACCEPT_OR_QUIT = EnumSet.of(PossibleAction.ACCEPT, PossibleAction.QUIT);
+    static final EnumSet<PossibleAction> ACCEPT_QUIT_OR_RAISE =
+            EnumSet.of(PossibleAction.ACCEPT, PossibleAction.QUIT, PossibleAction.RAISE);
+
+    private static final Map<String, HandState> statesByName = Map.of(
+            Done.INSTANCE.className(), Done.INSTANCE,
+            NoCard.INSTANCE.className(), NoCard.INSTANCE,
+            OneCard.INSTANCE.className(), OneCard.INSTANCE,
+            WaitingMaoDeOnze.INSTANCE.className(), WaitingMaoDeOnze.INSTANCE,
+            WaitingRaiseResponse.INSTANCE.className(), WaitingRaiseResponse.INSTANCE);
+
+    private HandStates() {
+    }
+
+    public static HandState ofName(String stateName){
+        final HandState state = statesByName.get(stateName);
+        if(state == null) throw new IllegalArgumentException("No state for name: " + stateName);
+        return state;
+    }
+}
@@ -29,75 +29,98 @@ import com.bueno.domain.entities.player.Player;
 
 import java.time.Instant;
 import java.util.*;
-import java.util.stream.Collectors;
 
+//Intel is stored compactly: players are referenced by seat (0 for the first to play, 1 for the last), their identity
+//is shared with the previous intel of the hand, cards are kept as ordinals and possible actions as a bitmask. Views
+//such as usernames, card lists and action names are built only when requested.
 public class Intel{
 
+    private static final byte NO_SEAT = -1;
+    private static final byte DRAW = 2;
+    private static final byte[] NO_CARDS = new byte[0];
+
     private final Instant timestamp;
+    private long sequence;
 
     private boolean gameIsDone;
-    private UUID gameWinner;
+    private byte gameWinnerSeat = NO_SEAT;
     private boolean maoDeOnze;
 
     private Integer handPoints;
     private Integer handPointsProposal;
-    private List<Optional<String>> roundWinnersUsernames;
-    private List<Optional<UUID>> roundWinnersUuid;
+    private long roundWinnerSeats;
+    private byte roundWinnersCount;
     private int roundsPlayed;
     private Card vira;
-    private List<Card> openCards;
-    private String handWinner;
-    private UUID currentPlayerUuid;
-    private int currentPlayerScore;
-    private String currentPlayerUsername;
-    private int currentOpponentScore;
-    private String currentOpponentUsername;
+    private byte[] openCards = NO_CARDS;
+    private byte handWinnerSeat = NO_SEAT;
+    private byte currentPlayerSeat = NO_SEAT;
     private Card cardToPlayAgainst;
-    private List<PlayerIntel> players;
-    private String eventPlayerUsername;
-    private UUID eventPlayerUuid;
-    private String event;
-    private Set<String> possibleActions;
+    private Identity firstPlayer;
+    private Identity lastPlayer;
+    private int firstPlayerScore;
+    private int lastPlayerScore;
+    private byte[] firstPlayerCards = NO_CARDS;
+    private byte[] lastPlayerCards = NO_CARDS;
+    private byte eventPlayerSeat = NO_SEAT;
+    private Event event;
+    private byte possibleActions;
 
     private Intel() {
         timestamp = Instant.now();
     }
 
-    public Intel(Instant timestamp, boolean gameIsDone, UUID gameWinner, boolean maoDeOnze, Integer handPoints, Integer pointsProposal, List<Optional<String>> roundWinnersUsernames,
+    public Intel(Instant timestamp, long sequence, boolean gameIsDone, UUID gameWinner, boolean maoDeOnze, Integer handPoints, Integer pointsProposal, List<Optional<String>> roundWinnersUsernames,
                  List<Optional<UUID>> roundWinnersUuid, int roundsPlayed, Card vira, List<Card> openCards, String handWinner, UUID currentPlayerUuid, Integer currentPlayerScore,
                  String currentPlayerUsername, Integer currentOpponentScore, String currentOpponentUsername, Card cardToPlayAgainst,
                  List<PlayerIntel> playersIntel, String event, UUID eventPlayerUuid, String eventPlayerUsername, Set<String> possibleActions){
         this.timestamp = timestamp;
+        this.sequence = sequence;
         this.gameIsDone = gameIsDone;
-        this.gameWinner = gameWinner;
         this.maoDeOnze = maoDeOnze;
         this.handPoints = handPoints;
         this.handPointsProposal = pointsProposal;
-        this.roundWinnersUsernames = new ArrayList<>(roundWinnersUsernames);
-        this.roundWinnersUuid = new ArrayList<>(roundWinnersUuid);
         this.roundsPlayed = roundsPlayed;
         this.vira = vira;
-        this.openCards = new ArrayList<>(openCards);
-        this.handWinner = handWinner;
-        this.currentPlayerUuid = currentPlayerUuid;
-        this.currentPlayerScore = currentPlayerScore;
-        this.currentPlayerUsername = currentPlayerUsername;
-        this.currentOpponentScore = currentOpponentScore;
-        this.currentOpponentUsername = currentOpponentUsername;
+        this.openCards = toOrdinals(openCards);
         this.cardToPlayAgainst = cardToPlayAgainst;
-        this.players = playersIntel;
-        this.event = event;
-        this.eventPlayerUuid = eventPlayerUuid;
-        this.eventPlayerUsername = eventPlayerUsername;
-        this.possibleActions = Set.copyOf(possibleActions);
+        this.event = event != null ? Event.valueOf(event) : null;
+        this.possibleActions = toMask(possibleActions.stream().map(PossibleAction::valueOf).toList());
+
+        if(playersIntel.size() > 0) {
+            final PlayerIntel first = playersIntel.get(0);
+            firstPlayer = new Identity(first.getUuid(), first.getUsername(), first.isBot());
+            firstPlayerScore = first.getScore();
+            firstPlayerCards = toOrdinals(first.getCards());
+        }
+        if(playersIntel.size() > 1) {
+            final PlayerIntel last = playersIntel.get(1);
+            lastPlayer = new Identity(last.getUuid(), last.getUsername(), last.isBot());
+            lastPlayerScore = last.getScore();
+            lastPlayerCards = toOrdinals(last.getCards());
+        }
+
+        this.gameWinnerSeat = seatOf(gameWinner);
+        this.currentPlayerSeat = seatOf(currentPlayerUuid);
+        this.eventPlayerSeat = seatOf(eventPlayerUuid);
+        this.handWinnerSeat = seatOfUsername(handWinner);
+        for (Optional<UUID> winner : roundWinnersUuid)
+            addRoundWinner(winner.map(this::seatOf).orElse(DRAW));
     }
 
     static public Intel ofHand(Hand currentHand, Event event){
+        final Hand hand = Objects.requireNonNull(currentHand);
+        return ofHand(hand, event, hand.nextIntelSequence(), null);
+    }
+
+    //The previous intel of the same hand, if any, lends its player identities to the new one.
+    static public Intel ofHand(Hand currentHand, Event event, long sequence, Intel previous){
         final Hand hand = Objects.requireNonNull(currentHand);
         final Intel result = new Intel();
-        result.event = event.toString();
+        result.sequence = sequence;
+        result.event = event;
+        result.setPlayersIntel(hand, previous);
         result.setHandIntel(hand);
-        result.setPlayersIntel(hand);
         return result;
     }
 
@@ -112,35 +135,104 @@ public class Intel{
         maoDeOnze = hand.isMaoDeOnze();
         handPoints = hand.getPoints().get();
         if(hand.getPointsProposal() != null) handPointsProposal = hand.getPointsProposal().get();
-        roundWinnersUsernames = getRoundWinnersUsernames(hand);
-        roundWinnersUuid = getRoundWinnersUuid(hand);
-        roundsPlayed = roundWinnersUsernames.size();
+        for (Round round : hand.getRoundsPlayed())
+            addRoundWinner(round.getWinner().map(winner -> seatOf(winner, hand)).orElse(DRAW));
+        roundsPlayed = roundWinnersCount;
         vira = hand.getVira();
-        handWinner = hand.getResult().flatMap(HandResult::getWinner).map(Player::getUsername).orElse(null);
-        openCards = List.copyOf(hand.getOpenCards());
+        handWinnerSeat = hand.getResult().flatMap(HandResult::getWinner).map(winner -> seatOf(winner, hand)).orElse(NO_SEAT);
+        openCards = toOrdinals(hand.getOpenCards());
         cardToPlayAgainst = hand.getCardToPlayAgainst().orElse(null);
-        possibleActions = hand.getPossibleActions().stream().map(Objects::toString).collect(Collectors.toSet());
+        possibleActions = toMask(hand.getPossibleActions());
     }
 
-    private void setPlayersIntel(Hand hand){
-        players = List.of(new PlayerIntel(hand.getFirstToPlay()), new PlayerIntel(hand.getLastToPlay()));
-
-        final Player eventPlayer = hand.getEventPlayer();
-        eventPlayerUsername = eventPlayer != null ? eventPlayer.getUsername() : null;
-        eventPlayerUuid = eventPlayer != null ? eventPlayer.getUuid() : null;
+    private void setPlayersIntel(Hand hand, Intel previous){
+        final Player first = hand.getFirstToPlay();
+        final Player last = hand.getLastToPlay();
 
-        final Player currentPlayer = hand.getCurrentPlayer();
-        currentPlayerScore = currentPlayer != null ?  currentPlayer.getScore() : 0;
-        currentPlayerUsername = currentPlayer != null ?  currentPlayer.getUsername() : null;
-        currentPlayerUuid = currentPlayer != null ? currentPlayer.getUuid() : null;
+        firstPlayer = identityOf(first, previous);
+        firstPlayerScore = first.getScore();
+        firstPlayerCards = toOrdinals(first.getCards());
+        lastPlayer = identityOf(last, previous);
+        lastPlayerScore = last.getScore();
+        lastPlayerCards = toOrdinals(last.getCards());
 
-        currentOpponentScore = currentPlayer != null ?  hand.getOpponentOf(currentPlayer).getScore() : 0;
-        currentOpponentUsername = currentPlayer != null ?  hand.getOpponentOf(currentPlayer).getUsername() : null;
+        eventPlayerSeat = seatOf(hand.getEventPlayer(), hand);
+        currentPlayerSeat = seatOf(hand.getCurrentPlayer(), hand);
     }
 
     private void setGameIntel(Game game){
         gameIsDone = game.isDone();
-        gameWinner = game.getWinner().map(Player::getUuid).orElse(null);
+        gameWinnerSeat = game.getWinner().map(Player::getUuid).map(this::seatOf).orElse(NO_SEAT);
+    }
+
+    private static Identity identityOf(Player player, Intel previous){
+        if(previous != null && previous.firstPlayer != null && previous.firstPlayer.matches(player)) return previous.firstPlayer;
+        if(previous != null && previous.lastPlayer != null && previous.lastPlayer.matches(player)) return previous.lastPlayer;
+        return new Identity(player.getUuid(), player.getUsername(), player.isBot());
+    }
+
+    private static byte seatOf(Player player, Hand hand){
+        if(player == null) return NO_SEAT;
+        if(player.equals(hand.getFirstToPlay())) return 0;
+        if(player.equals(hand.getLastToPlay())) return 1;
+        return NO_SEAT;
+    }
+
+    private byte seatOf(UUID uuid){
+        if(uuid == null) return NO_SEAT;
+        if(firstPlayer != null && uuid.equals(firstPlayer.uuid())) return 0;
+        if(lastPlayer != null && uuid.equals(lastPlayer.uuid())) return 1;
+        return NO_SEAT;
+    }
+
+    private byte seatOfUsername(String username){
+        if(username == null) return NO_SEAT;
+        if(firstPlayer != null && username.equals(firstPlayer.username())) return 0;
+        if(lastPlayer != null && username.equals(lastPlayer.username())) return 1;
+        return NO_SEAT;
+    }
+
+    //Two bits per round: the winner seat plus one, or DRAW plus one.
+    private void addRoundWinner(byte seat){
+        final byte code = (byte) (seat == NO_SEAT ? DRAW + 1 : seat + 1);
+        roundWinnerSeats |= (long) code << (2 * roundWinnersCount++);
+    }
+
+    private byte roundWinnerSeat(int round){
+        return (byte) (((roundWinnerSeats >>> (2 * round)) & 0b11) - 1);
+    }
+
+    private Identity identityAt(byte seat){
+        return seat == 0 ? firstPlayer : seat == 1 ? lastPlayer : null;
+    }
+
+    private int scoreAt(byte seat){
+        return seat == 0 ? firstPlayerScore : lastPlayerScore;
+    }
+
+    private static byte[] toOrdinals(List<Card> cards){
+        if(cards.isEmpty()) return NO_CARDS;
+        final byte[] ordinals = new byte[cards.size()];
+        for (int i = 0; i < ordinals.length; i++) ordinals[i] = (byte) cards.get(i).ordinal();
+        return ordinals;
+    }
+
+    private static List<Card> toCards(byte[] ordinals){
+        final Card[] cards = new Card[ordinals.length];
+        for (int i = 0; i < ordinals.length; i++) cards[i] = ordinals[i] < 0 ? Card.closed() : Card.ofOrdinal(ordinals[i]);
+        return List.of(cards);
+    }
+
+    private static byte toMask(Collection<PossibleAction> actions){
+        byte mask = 0;
+        for (PossibleAction action : actions) mask |= 1 << action.ordinal();
+        return mask;
+    }
+
+    private record Identity(UUID uuid, String username, boolean isBot){
+        private boolean matches(Player player){
+            return isBot == player.isBot() && Objects.equals(uuid, player.getUuid()) && Objects.equals(username, player.getUsername());
+        }
     }
 
     public static class PlayerIntel{
@@ -191,34 +283,21 @@ public class Intel{
         }
     }
 
-    private List<Optional<String>> getRoundWinnersUsernames(Hand hand) {
-        return hand.getRoundsPlayed().stream()
-                .map(Round::getWinner)
-                .map(maybeWinner -> maybeWinner.orElse(null))
-                .map(player -> player != null ? player.getUsername() : null)
-                .map(Optional::ofNullable)
-                .toList();
-    }
-
-    private List<Optional<UUID>> getRoundWinnersUuid(Hand hand) {
-        return hand.getRoundsPlayed().stream()
-                .map(Round::getWinner)
-                .map(maybeWinner -> maybeWinner.orElse(null))
-                .map(player -> player != null ? player.getUuid() : null)
-                .map(Optional::ofNullable)
-                .toList();
-    }
-
     public Instant timestamp() {
         return timestamp;
     }
 
+    //Position of this intel in the game log, starting at zero and increasing by one for each event.
+    public long sequence() {
+        return sequence;
+    }
+
     public boolean isGameDone() {
         return gameIsDone;
     }
 
     public Optional<UUID> gameWinner() {
-        return Optional.ofNullable(gameWinner);
+        return Optional.ofNullable(identityAt(gameWinnerSeat)).map(Identity::uuid);
     }
 
     public boolean isMaoDeOnze() {
@@ -234,11 +313,17 @@ public class Intel{
     }
 
     public List<Optional<String>> roundWinnersUsernames() {
-        return roundWinnersUsernames;
+        final List<Optional<String>> usernames = new ArrayList<>(roundWinnersCount);
+        for (int round = 0; round < roundWinnersCount; round++)
+            usernames.add(Optional.ofNullable(identityAt(roundWinnerSeat(round))).map(Identity::username));
+        return usernames;
     }
 
     public List<Optional<UUID>> roundWinnersUuid() {
-        return roundWinnersUuid;
+        final List<Optional<UUID>> uuids = new ArrayList<>(roundWinnersCount);
+        for (int round = 0; round < roundWinnersCount; round++)
+            uuids.add(Optional.ofNullable(identityAt(roundWinnerSeat(round))).map(Identity::uuid));
+        return uuids;
     }
 
     public int roundsPlayed() {
@@ -250,11 +335,11 @@ public class Intel{
     }
 
     public Optional<String> handWinner() {
-        return Optional.ofNullable(handWinner);
+        return Optional.ofNullable(identityAt(handWinnerSeat)).map(Identity::username);
     }
 
     public List<Card> openCards() {
-        return openCards;
+        return toCards(openCards);
     }
 
     public Optional<Card> cardToPlayAgainst() {
@@ -262,43 +347,59 @@ public class Intel{
     }
 
     public Set<String> possibleActions() {
-        return possibleActions;
+        final Set<String> names = new HashSet<>();
+        for (PossibleAction action : possibleActionSet()) names.add(action.toString());
+        return Collections.unmodifiableSet(names);
+    }
+
+    public Set<PossibleAction> possibleActionSet() {
+        final EnumSet<PossibleAction> actions = EnumSet.noneOf(PossibleAction.class);
+        for (PossibleAction action : PossibleAction.values())
+            if ((possibleActions & 1 << action.ordinal()) != 0) actions.add(action);
+        return actions;
     }
 
     public List<PlayerIntel> players(){
+        final List<PlayerIntel> players = new ArrayList<>(2);
+        if(firstPlayer != null) players.add(new PlayerIntel(firstPlayer.username(), firstPlayer.uuid(),
+                firstPlayerScore, firstPlayer.isBot(), toCards(firstPlayerCards)));
+        if(lastPlayer != null) players.add(new PlayerIntel(lastPlayer.username(), lastPlayer.uuid(),
+                lastPlayerScore, lastPlayer.isBot(), toCards(lastPlayerCards)));
         return players;
     }
 
     public Optional<UUID> currentPlayerUuid() {
-        return Optional.ofNullable(currentPlayerUuid);
+        return Optional.ofNullable(identityAt(currentPlayerSeat)).map(Identity::uuid);
     }
     
     public int currentPlayerScore() {
-        return currentPlayerScore;
+        return currentPlayerSeat == NO_SEAT ? 0 : scoreAt(currentPlayerSeat);
     }
 
     public String currentPlayerUsername() {
-        return currentPlayerUsername;
+        final Identity currentPlayer = identityAt(currentPlayerSeat);
+        return currentPlayer != null ? currentPlayer.username() : null;
     }
 
     public int currentOpponentScore() {
-        return currentOpponentScore;
+        return currentPlayerSeat == NO_SEAT ? 0 : scoreAt((byte) (1 - currentPlayerSeat));
     }
 
     public String currentOpponentUsername() {
-        return currentOpponentUsername;
+        final Identity currentOpponent = currentPlayerSeat == NO_SEAT ? null : identityAt((byte) (1 - currentPlayerSeat));
+        return currentOpponent != null ? currentOpponent.username() : null;
     }
 
     public Optional<String> event() {
-        return Optional.ofNullable(event);
+        return Optional.ofNullable(event).map(Event::toString);
     }
 
     public Optional<UUID> eventPlayerUuid() {
-        return Optional.ofNullable(eventPlayerUuid);
+        return Optional.ofNullable(identityAt(eventPlayerSeat)).map(Identity::uuid);
     }
 
     public Optional<String> eventPlayerUsername() {
-        return Optional.ofNullable(eventPlayerUsername);
+        return Optional.ofNullable(identityAt(eventPlayerSeat)).map(Identity::username);
     }
 
 
@@ -307,30 +408,33 @@ public class Intel{
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Intel intel = (Intel) o;
-        return timestamp.equals(intel.timestamp);
+        return sequence == intel.sequence && timestamp.equals(intel.timestamp);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(timestamp);
+        return Objects.hash(sequence, timestamp);
     }
 
     @Override
     public String toString() {
-        final String userInMaoDeOnze = currentPlayerScore < currentOpponentScore ? currentOpponentUsername : currentPlayerUsername;
+        final String currentPlayerUsername = currentPlayerUsername();
+        final String currentOpponentUsername = currentOpponentUsername();
+        final String userInMaoDeOnze = currentPlayerScore() < currentOpponentScore() ? currentOpponentUsername : currentPlayerUsername;
 
         return "[" + timestamp +
-                "] Event = " + (event == null ? "--" : event) +
-                " | Event player = " + eventPlayerUsername +
+                "] #" + sequence +
+                " Event = " + (event == null ? "--" : event) +
+                " | Event player = " + eventPlayerUsername().orElse(null) +
                 " | Next player = " + currentPlayerUsername +
-                " | Possible actions = " + possibleActions +
+                " | Possible actions = " + possibleActions() +
                 " | Vira = " + vira +
                 " | Card to play against = " + cardToPlayAgainst +
-                " | Open cards = " + openCards +
-                " | Rounds = " + roundWinnersUsernames +
+                " | Open cards = " + openCards() +
+                " | Rounds = " + roundWinnersUsernames() +
                 " | Hand Score = " + handPoints +
                 (pointsProposal().isPresent() ? " | Score Proposal = " + pointsProposal().get() : "") +
                 (isMaoDeOnze() ? " | Mão de Onze = " + userInMaoDeOnze  :  "") +
-                " | Winner = " + handWinner;
+                " | Winner = " + handWinner().orElse(null);
     }
 }
@@ -21,9 +21,11 @@
 package com.bueno.domain.entities.player;
 
 import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.CardSet;
 import com.bueno.domain.entities.hand.HandPoints;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -32,19 +34,25 @@ public class Player {
 
     public static final int MAX_SCORE = 12;
     private List<Card> cards;
+    private CardSet cardSet;
     private final String username;
     private final UUID uuid;
     private int score;
     private boolean isBot;
 
     public Player(List<Card> cards, String username, UUID uuid, int score, boolean isBot) {
-        this.cards = cards;
+        this.cards = cards == null ? null : new ArrayList<>(cards);
+        this.cardSet = cards == null ? CardSet.EMPTY : CardSet.copyOf(cards);
         this.username = username;
         this.uuid = uuid;
         this.score = score;
         this.isBot = isBot;
     }
 
+    private Player(Player other) {
+        this(other.cards, other.username, other.uuid, other.score, other.isBot);
+    }
+
     private Player(UUID uuid, String username) {
         this(null, username, uuid, 0, false);
     }
@@ -65,11 +73,16 @@ public class Player {
         return bot;
     }
 
+    public Player copy(){
+        return new Player(this);
+    }
+
     public final Card play(Card card){
         Card cardToPlay = Objects.requireNonNull(card);
         if(doesNotOwn(cardToPlay))
             throw new IllegalArgumentException("User doesn't own card " + cardToPlay + " to play it.");
-        getCards().remove(cardToPlay);
+        cards.remove(cardToPlay);
+        cardSet = cardSet.remove(cardToPlay);
         return cardToPlay;
     }
 
@@ -77,12 +90,13 @@ public class Player {
         Card discard = Objects.requireNonNull(card);
         if(doesNotOwn(discard))
             throw new IllegalArgumentException("User doesn't own card " + card + " to discard it.");
-        getCards().remove(discard);
+        cards.remove(discard);
+        cardSet = cardSet.remove(discard);
         return Card.closed();
     }
 
-    private boolean doesNotOwn(Card discard) {
-        return !getCards().contains(discard);
+    private boolean doesNotOwn(Card card) {
+        return !cardSet.contains(card);
     }
 
     public final void addScore(HandPoints handPoints){
@@ -91,10 +105,16 @@ public class Player {
 
     public final void setCards(List<Card> cards){
         this.cards = new ArrayList<>(cards);
+        this.cardSet = CardSet.copyOf(cards);
     }
 
+    //Cards only change through play, discard and setCards, which keep the card set in sync with them.
     public List<Card> getCards() {
-        return cards;
+        return cards == null ? null : Collections.unmodifiableList(cards);
+    }
+
+    public CardSet getCardSet() {
+        return cardSet;
     }
 
     public String getUsername() {
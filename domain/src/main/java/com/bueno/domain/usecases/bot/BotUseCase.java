@@ -29,6 +29,7 @@ import com.bueno.domain.usecases.bot.handlers.RaiseHandler;
 import com.bueno.domain.usecases.bot.handlers.RaiseRequestHandler;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
+import com.bueno.domain.usecases.game.repos.GameUnitOfWork;
 import com.bueno.domain.usecases.hand.HandResultRepository;
 import com.bueno.domain.usecases.hand.PlayCardUseCase;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
@@ -36,18 +37,23 @@ import com.bueno.domain.usecases.intel.dtos.IntelDto;
 import com.bueno.spi.service.BotServiceManager;
 import com.bueno.spi.service.BotServiceProvider;
 
+import java.util.ArrayList;
+import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.bueno.domain.usecases.intel.converters.IntelConverter.fromDto;
 
 public class BotUseCase {
-    private final GameRepository gameRepo;
-    private final GameResultRepository gameResultRepo;
-    private final HandResultRepository handResultRepo;
-    private MaoDeOnzeHandler maoDeOnzeHandler;
-    private RaiseHandler raiseHandler;
-    private CardPlayingHandler cardHandler;
-    private RaiseRequestHandler requestHandler;
+    private final MaoDeOnzeHandler maoDeOnzeHandler;
+    private final RaiseHandler raiseHandler;
+    private final CardPlayingHandler cardHandler;
+    private final RaiseRequestHandler requestHandler;
+    private final Map<String, HandlerPipeline> pipelines = new ConcurrentHashMap<>();
+    private final GameRepository gameRepository;
+    private final PlayCardUseCase cardUseCase;
+    private final PointsProposalUseCase pointsUseCase;
 
     public BotUseCase(GameRepository gameRepo) {
         this(gameRepo, null, null, null, null, null, null);
@@ -60,62 +66,85 @@ public class BotUseCase {
     BotUseCase(GameRepository gameRepo, GameResultRepository gameResultRepo,
                HandResultRepository handResultRepo, MaoDeOnzeHandler maoDeOnze,
                RaiseHandler raise, CardPlayingHandler card, RaiseRequestHandler request){
-        this.gameRepo = Objects.requireNonNull(gameRepo);
-        this.gameResultRepo = gameResultRepo;
-        this.handResultRepo = handResultRepo;
+        this.gameRepository = Objects.requireNonNull(gameRepo);
         this.maoDeOnzeHandler = maoDeOnze;
         this.raiseHandler = raise;
         this.cardHandler = card;
         this.requestHandler = request;
+        this.cardUseCase = new PlayCardUseCase(gameRepo, gameResultRepo, handResultRepo, null);
+        this.pointsUseCase = new PointsProposalUseCase(gameRepo, gameResultRepo, handResultRepo, null);
     }
 
+    //Bot moves share the caller's unit of work, so the game is neither reloaded nor saved between them. The game is
+    //only attached, and so locked, when a bot actually has to play.
     public Intel playWhenNecessary(Game game) {
         final Player currentPlayer = game.currentHand().getCurrentPlayer();
         final Intel intel = game.getIntel();
-
         if (!isBotTurn(currentPlayer, intel)) return intel;
 
-        initializeNullHandlers(BotServiceManager.load(currentPlayer.getUsername()));
+        try (GameUnitOfWork unitOfWork = GameUnitOfWork.begin(gameRepository)) {
+            unitOfWork.attach(game);
+            final Intel lastIntel = playBotTurns(intel, currentPlayer);
+            unitOfWork.commit();
+            return lastIntel;
+        }
+    }
+
+    private Intel playBotTurns(Intel intel, Player currentPlayer) {
+        do {
+            intel = playTurn(intel, currentPlayer);
+            if (intel == null) return null;
+            currentPlayer = currentPlayerOf(intel);
+        } while (isBotTurn(currentPlayer, intel));
+        return intel;
+    }
 
-        if (maoDeOnzeHandler.shouldHandle(intel))
-            return fromDto(maoDeOnzeHandler.handle(intel, currentPlayer));
+    private Intel playTurn(Intel intel, Player currentPlayer) {
+        final HandlerPipeline pipeline = pipelines.computeIfAbsent(currentPlayer.getUsername(), this::createPipeline);
 
-        if (raiseHandler.shouldHandle(intel)) {
-            final IntelDto dto = raiseHandler.handle(intel, currentPlayer);
+        if (pipeline.maoDeOnze().shouldHandle(intel))
+            return fromDto(pipeline.maoDeOnze().handle(intel, currentPlayer));
+
+        if (pipeline.raise().shouldHandle(intel)) {
+            final IntelDto dto = pipeline.raise().handle(intel, currentPlayer);
             if(dto != null ) return fromDto(dto);
         }
 
-        if (cardHandler.shouldHandle(intel))
-            return fromDto(cardHandler.handle(intel, currentPlayer));
+        if (pipeline.card().shouldHandle(intel))
+            return fromDto(pipeline.card().handle(intel, currentPlayer));
 
-        if (requestHandler.shouldHandle(intel))
-            return fromDto(requestHandler.handle(intel, currentPlayer));
+        if (pipeline.request().shouldHandle(intel))
+            return fromDto(pipeline.request().handle(intel, currentPlayer));
 
         return null;
     }
 
     private boolean isBotTurn(Player handPlayer, Intel intel) {
         final var currentPlayerUUID = intel.currentPlayerUuid();
-        if (currentPlayerUUID.isEmpty() || intel.isGameDone() || !handPlayer.isBot()) return false;
+        if (handPlayer == null || currentPlayerUUID.isEmpty() || intel.isGameDone() || !handPlayer.isBot()) return false;
         return handPlayer.getUuid().equals(currentPlayerUUID.get());
     }
 
-    private void initializeNullHandlers(BotServiceProvider botService) {
-        if (maoDeOnzeHandler == null)
-            maoDeOnzeHandler = new MaoDeOnzeHandler(
-                    new PointsProposalUseCase(gameRepo, gameResultRepo, handResultRepo),
-                    botService);
-        if (raiseHandler == null)
-            raiseHandler = new RaiseHandler(
-                    new PointsProposalUseCase(gameRepo, gameResultRepo, handResultRepo),
-                    botService);
-        if (cardHandler == null)
-            cardHandler = new CardPlayingHandler(
-                    new PlayCardUseCase(gameRepo, gameResultRepo, handResultRepo),
-                    botService);
-        if (requestHandler == null)
-            requestHandler = new RaiseRequestHandler(new PointsProposalUseCase(
-                    gameRepo, gameResultRepo, handResultRepo),
-                    botService);
+    private Player currentPlayerOf(Intel intel) {
+        final UUID currentPlayerUuid = intel.currentPlayerUuid().orElse(null);
+        if (currentPlayerUuid == null || intel.players() == null) return null;
+        return intel.players().stream()
+                .filter(player -> currentPlayerUuid.equals(player.getUuid()))
+                .findAny()
+                .map(player -> new Player(new ArrayList<>(player.getCards()), player.getUsername(),
+                        player.getUuid(), player.getScore(), player.isBot()))
+                .orElse(null);
+    }
+
+    private HandlerPipeline createPipeline(String botName) {
+        final BotServiceProvider botService = BotServiceManager.load(botName);
+        return new HandlerPipeline(
+                maoDeOnzeHandler != null ? maoDeOnzeHandler : new MaoDeOnzeHandler(pointsUseCase, botService),
+                raiseHandler != null ? raiseHandler : new RaiseHandler(pointsUseCase, botService),
+                cardHandler != null ? cardHandler : new CardPlayingHandler(cardUseCase, botService),
+                requestHandler != null ? requestHandler : new RaiseRequestHandler(pointsUseCase, botService));
     }
+
+    private record HandlerPipeline(MaoDeOnzeHandler maoDeOnze, RaiseHandler raise,
+                                   CardPlayingHandler card, RaiseRequestHandler request) {}
 }
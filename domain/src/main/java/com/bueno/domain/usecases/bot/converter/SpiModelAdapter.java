@@ -23,6 +23,8 @@ package com.bueno.domain.usecases.bot.converter;
 import com.bueno.domain.entities.deck.Card;
 import com.bueno.domain.entities.deck.Rank;
 import com.bueno.domain.entities.deck.Suit;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.Round;
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.spi.model.CardRank;
@@ -60,6 +62,29 @@ public class SpiModelAdapter {
                 .build();
     }
 
+    public static GameIntel toGameIntel(Player player, Hand hand) {
+        final Function<Player, RoundResult> toRoundResult = winner -> winner == null ? RoundResult.DREW
+                : winner.equals(player) ? RoundResult.WON : RoundResult.LOST;
+
+        final List<RoundResult> roundResults = hand.getRoundsPlayed().stream()
+                .map(Round::getWinner)
+                .map(winner -> winner.orElse(null))
+                .map(toRoundResult).collect(Collectors.toList());
+
+        final Function<List<Card>, List<TrucoCard>> toTrucoCardList = cardList ->
+                cardList.stream().map(SpiModelAdapter::toTrucoCard).collect(Collectors.toList());
+
+        final List<TrucoCard> openCards = toTrucoCardList.apply(hand.getOpenCards());
+        final List<TrucoCard> botCards = toTrucoCardList.apply(player.getCards());
+
+        return GameIntel.StepBuilder.with()
+                .gameInfo(roundResults, openCards, toTrucoCard(hand.getVira()), hand.getPoints().get())
+                .botInfo(botCards, player.getScore())
+                .opponentScore(hand.getOpponentOf(player).getScore())
+                .opponentCard(toTrucoCard(hand.getCardToPlayAgainst().orElse(null)))
+                .build();
+    }
+
     public static Card toCard(TrucoCard card){
         if(card == null) return null;
         final String rankName = card.getRank().toString();
@@ -21,15 +21,11 @@
 package com.bueno.domain.usecases.bot.handlers;
 
 import com.bueno.domain.entities.intel.Intel;
-import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
 import com.bueno.domain.usecases.intel.dtos.IntelDto;
 import com.bueno.spi.service.BotServiceProvider;
 
-import java.util.EnumSet;
-import java.util.stream.Collectors;
-
 import static com.bueno.domain.entities.intel.PossibleAction.*;
 import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toGameIntel;
 
@@ -46,9 +42,7 @@ public class RaiseRequestHandler implements Handler{
     @Override
     public IntelDto handle(Intel intel, Player bot) {
         final var botUuid = bot.getUuid();
-        final var actions = intel.possibleActions().stream()
-                .map(PossibleAction::valueOf)
-                .collect(Collectors.toCollection(() -> EnumSet.noneOf(PossibleAction.class)));
+        final var actions = intel.possibleActionSet();
 
         return switch (botService.getRaiseResponse(toGameIntel(bot, intel))) {
             case -1 -> actions.contains(QUIT) ? scoreUseCase.quit(botUuid) : null;
@@ -59,6 +53,6 @@ public class RaiseRequestHandler implements Handler{
     }
 
     public boolean shouldHandle(Intel intel){
-        return !intel.isMaoDeOnze() && !intel.possibleActions().contains("PLAY");
+        return !intel.isMaoDeOnze() && !intel.possibleActionSet().contains(PLAY);
     }
 }
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.HandPoints;
+import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.util.Objects;
+import java.util.Set;
+
+import static com.bueno.domain.entities.intel.PossibleAction.*;
+import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toCard;
+import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toGameIntel;
+
+public class HeadlessGameEngine {
+
+    private final BotServiceProvider player1Bot;
+    private final BotServiceProvider player2Bot;
+
+    public HeadlessGameEngine(BotServiceProvider player1Bot, BotServiceProvider player2Bot) {
+        this.player1Bot = Objects.requireNonNull(player1Bot, "Player 1 bot must not be null!");
+        this.player2Bot = Objects.requireNonNull(player2Bot, "Player 2 bot must not be null!");
+    }
+
+    public Game play(Game game) {
+        Objects.requireNonNull(game, "Game must not be null!");
+        while (!game.isDone()) playTurn(game);
+        return game;
+    }
+
+    void playTurn(Game game) {
+        final Hand hand = game.currentHand();
+        final Player player = hand.getCurrentPlayer();
+        final BotServiceProvider bot = player.equals(game.getPlayer1()) ? player1Bot : player2Bot;
+        final GameIntel intel = toGameIntel(player, hand);
+        final Set<PossibleAction> actions = hand.getPossibleActions();
+
+        if (isWaitingMaoDeOnzeDecision(hand)) {
+            if (bot.getMaoDeOnzeResponse(intel)) hand.accept(player);
+            else hand.quit(player);
+        }
+        else if (actions.contains(RAISE) && !actions.contains(QUIT) && bot.decideIfRaises(intel)) hand.raise(player);
+        else if (actions.contains(PLAY)) playCard(hand, player, bot.chooseCard(intel));
+        else respondToRaise(hand, player, actions, bot.getRaiseResponse(intel));
+
+        if (hand.hasWinner()) {
+            game.updateScores();
+            if (!game.isDone()) game.prepareNewHand();
+        }
+    }
+
+    private boolean isWaitingMaoDeOnzeDecision(Hand hand) {
+        return hand.isMaoDeOnze() && hand.getPoints() == HandPoints.ONE;
+    }
+
+    private void playCard(Hand hand, Player player, CardToPlay chosenCard) {
+        final Card card = toCard(chosenCard.content());
+        final Card playedCard = chosenCard.isDiscard() ? player.discard(card) : player.play(card);
+
+        if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(player, playedCard);
+        else hand.playSecondCard(player, playedCard);
+    }
+
+    private void respondToRaise(Hand hand, Player player, Set<PossibleAction> actions, int response) {
+        switch (response) {
+            case -1 -> hand.quit(player);
+            case 0 -> hand.accept(player);
+            //A raise that is no longer possible, like at twelve points, is taken as an acceptance.
+            case 1 -> {
+                if (actions.contains(RAISE)) hand.raise(player);
+                else hand.accept(player);
+            }
+            default -> throw new IllegalStateException("Invalid raise response from " + player.getUsername() + ": " + response);
+        }
+    }
+}
@@ -20,13 +20,21 @@
 
 package com.bueno.domain.usecases.game;
 
+import com.bueno.domain.entities.deck.Deck;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.intel.IntelRecordingPolicy;
+import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.bot.BotUseCase;
 import com.bueno.domain.usecases.game.converter.GameConverter;
 import com.bueno.domain.usecases.game.dtos.CreateForBotsDto;
 import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
 import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.spi.service.BotServiceManager;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
 
 public class PlayWithBotsUseCase {
 
@@ -36,7 +44,17 @@ public class PlayWithBotsUseCase {
         this.gameRepository = Objects.requireNonNull(gameRepository);
     }
 
+    private PlayWithBotsUseCase() {
+        this.gameRepository = null;
+    }
+
+    public static PlayWithBotsUseCase headless() {
+        return new PlayWithBotsUseCase();
+    }
+
     public PlayWithBotsDto playWithBots(CreateForBotsDto requestModel){
+        if (gameRepository == null) return playHeadless(requestModel);
+
         final CreateGameUseCase createGameUseCase = new CreateGameUseCase(gameRepository);
         createGameUseCase.createForBots(requestModel);
         final var game = gameRepository.findByPlayerUuid(requestModel.bot1Uuid()).map(GameConverter::fromDto).orElseThrow();
@@ -47,4 +65,47 @@ public class PlayWithBotsUseCase {
                 requestModel.bot1Name() : requestModel.bot2Name();
         return new PlayWithBotsDto(winnerUUID, winnerName);
     }
+
+    public PlayWithBotsDto playWithBots(CreateForBotsDto requestModel, long seed){
+        requireHeadless();
+        return playHeadless(requestModel, new Deck(seed));
+    }
+
+    //Plays the same deals twice with swapped seats, so luck of the draw cancels out between the two games.
+    public List<PlayWithBotsDto> playDuplicateDeal(CreateForBotsDto requestModel, long seed){
+        return playDuplicateDeal(requestModel, () -> new Deck(seed));
+    }
+
+    List<PlayWithBotsDto> playDuplicateDeal(CreateForBotsDto requestModel, Supplier<Deck> deckSupplier){
+        requireHeadless();
+        final var swappedSeats = new CreateForBotsDto(requestModel.bot2Uuid(), requestModel.bot2Name(),
+                requestModel.bot1Uuid(), requestModel.bot1Name());
+        return List.of(playHeadless(requestModel, deckSupplier.get()), playHeadless(swappedSeats, deckSupplier.get()));
+    }
+
+    private void requireHeadless() {
+        if (gameRepository != null)
+            throw new UnsupportedOperationException("Seeded games are only supported in headless mode. Use PlayWithBotsUseCase.headless().");
+    }
+
+    private PlayWithBotsDto playHeadless(CreateForBotsDto requestModel) {
+        return playHeadless(requestModel, new Deck());
+    }
+
+    private PlayWithBotsDto playHeadless(CreateForBotsDto requestModel, Deck deck) {
+        final var bot1 = Player.ofBot(requestModel.bot1Uuid(), requestModel.bot1Name());
+        final var bot2 = Player.ofBot(requestModel.bot2Uuid(), requestModel.bot2Name());
+        final var engine = new HeadlessGameEngine(
+                BotServiceManager.loadForGame(requestModel.bot1Name()),
+                BotServiceManager.loadForGame(requestModel.bot2Name()));
+
+        final Game game = new Game(bot1, bot2, deck);
+        //The engine drives the bots from the hands themselves, so no intel needs to be recorded.
+        game.setIntelRecording(IntelRecordingPolicy.NONE);
+        engine.play(game);
+        final UUID winnerUUID = game.getWinner().map(Player::getUuid).orElseThrow();
+        final var winnerName = winnerUUID.equals(requestModel.bot1Uuid()) ?
+                requestModel.bot1Name() : requestModel.bot2Name();
+        return new PlayWithBotsDto(winnerUUID, winnerName);
+    }
 }
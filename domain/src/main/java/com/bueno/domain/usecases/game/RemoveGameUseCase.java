@@ -20,14 +20,16 @@
 
 package com.bueno.domain.usecases.game;
 
-import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.usecases.game.dtos.GameResultDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
 import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.game.repos.GameUnitOfWork;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
-import com.bueno.domain.usecases.hand.dtos.HandDto;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -46,39 +48,46 @@ public class RemoveGameUseCase {
     }
 
     public List<UUID> byInactivityAfter(int minutes){
-        final List<UUID> gamesToRemove = gameRepo.findAllInactiveAfter(minutes)
-                .stream()
-                .map(this::inactivePlayerUuid)
-                .toList();
-        gamesToRemove.forEach(this::byUserUuid);
-        return gamesToRemove;
+        return byInactivity(gameRepo.findAllInactiveAfter(minutes));
     }
 
-    public UUID inactivePlayerUuid(GameDto game){
-        final HandDto currentHand = game.hands().get(game.hands().size() - 1);
-        return currentHand.currentPlayer().uuid();
+    //Removes all inactive games at once, without loading them, and returns the UUIDs of the inactive players. The games
+    //stay locked while they are removed, and those updated since they were found inactive are kept, so an action
+    //racing the expiry neither brings a removed game back nor ends up with a result for a game still being played.
+    public List<UUID> byInactivity(Collection<InactiveGameDto> games){
+        final List<InactiveGameDto> inactiveGames = List.copyOf(games);
+        if (inactiveGames.isEmpty()) return List.of();
+        final List<UUID> gameUuids = inactiveGames.stream().map(InactiveGameDto::gameUuid).toList();
+        final List<InactiveGameDto> removedGames = List.copyOf(
+                GameUnitOfWork.withGamesLocked(gameUuids, () -> gameRepo.deleteAllInactive(inactiveGames)));
+        removedGames.forEach(game -> gameResultRepo.save(createGameResultFrom(game.gameUuid(), game.timestamp(),
+                game.player1Uuid(), game.player2Uuid(), game.inactivePlayerUuid())));
+        return removedGames.stream().map(InactiveGameDto::inactivePlayerUuid).toList();
     }
 
+    //Goes through the unit of work, so the game is not removed while one of its actions is still being written.
     public void byUserUuid(UUID userUuid) {
         final UUID uuid = Objects.requireNonNull(userUuid, "User UUID must not be null.");
-        final GameDto game = gameRepo.findByPlayerUuid(Objects.requireNonNull(uuid))
-                .orElseThrow(() -> new NoSuchElementException("The is no active game for user UUID: " + userUuid));
-        gameRepo.delete(game.gameUuid());
-        gameResultRepo.save(createGameResultFrom(game, userUuid));
+        try (GameUnitOfWork unitOfWork = GameUnitOfWork.begin(gameRepo)) {
+            final Game game = unitOfWork.findByPlayerUuid(uuid)
+                    .orElseThrow(() -> new NoSuchElementException("The is no active game for user UUID: " + userUuid));
+            unitOfWork.remove(game);
+            gameResultRepo.save(createGameResultFrom(game.getUuid(), game.getTimestamp(),
+                    game.getPlayer1().getUuid(), game.getPlayer2().getUuid(), userUuid));
+        }
     }
 
-    private GameResultDto createGameResultFrom(GameDto game, UUID quitterUuid){
-        final UUID player1uuid = game.player1().uuid().equals(quitterUuid)
-                ? game.player1().uuid() : game.player2().uuid();
-        final UUID player2uuid = game.player1().uuid().equals(quitterUuid)
-                ? game.player2().uuid() : game.player1().uuid();
+    private GameResultDto createGameResultFrom(UUID gameUuid, LocalDateTime gameStart, UUID firstPlayerUuid,
+                                               UUID secondPlayerUuid, UUID quitterUuid){
+        final UUID player1uuid = firstPlayerUuid.equals(quitterUuid) ? firstPlayerUuid : secondPlayerUuid;
+        final UUID player2uuid = firstPlayerUuid.equals(quitterUuid) ? secondPlayerUuid : firstPlayerUuid;
         final UUID winnerUuid = player1uuid.equals(quitterUuid) ? player2uuid : player1uuid;
         final int player1Score = player1uuid.equals(winnerUuid) ? 12 : 0;
         final int player2Score = player2uuid.equals(winnerUuid) ? 12 : 0;
 
         return new GameResultDto(
-                game.gameUuid(),
-                game.timestamp(),
+                gameUuid,
+                gameStart,
                 LocalDateTime.now(),
                 winnerUuid,
                 player1uuid,
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.converter;
+
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+//Hands converted from finished hand dtos, keyed by the identity of the dto. An entry is dropped once its dto is no
+//longer referenced, so the cache lives as long as the dtos kept by the repositories and never longer.
+final class FinishedHandCache {
+
+    private final Map<Key, Hand> hands = new ConcurrentHashMap<>();
+    private final ReferenceQueue<HandDto> collected = new ReferenceQueue<>();
+
+    Hand get(HandDto dto) {
+        expungeCollected();
+        return hands.get(new Key(dto, null));
+    }
+
+    void put(HandDto dto, Hand hand) {
+        expungeCollected();
+        hands.put(new Key(dto, collected), hand);
+    }
+
+    private void expungeCollected() {
+        Reference<? extends HandDto> key;
+        while ((key = collected.poll()) != null) hands.remove(key);
+    }
+
+    private static final class Key extends WeakReference<HandDto> {
+        private final int hash;
+
+        private Key(HandDto dto, ReferenceQueue<HandDto> queue) {
+            super(dto, queue);
+            hash = System.identityHashCode(dto);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            final HandDto dto = get();
+            return dto != null && dto == other.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -25,16 +25,33 @@ import com.bueno.domain.entities.hand.Hand;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.game.dtos.GameDto;
 import com.bueno.domain.usecases.hand.converter.HandConverter;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class GameConverter {
 
     private GameConverter(){}
 
+    private static final FinishedHandCache finishedHands = new FinishedHandCache();
+
     public static GameDto toDto(Game game){
+        return toDto(game, null);
+    }
+
+    //Hands already finished in a previous dto of the same game never change, so their dtos are reused instead of
+    //converting them again with their whole intel history. The last hand of the previous dto may have been played since.
+    public static GameDto toDto(Game game, GameDto previous){
         if(game == null) return null;
 
+        final List<Hand> hands = game.getHands();
+        final boolean sameGame = previous != null && previous.gameUuid().equals(game.getUuid());
+        final int reusableHands = sameGame ? Math.min(previous.hands().size() - 1, hands.size() - 1) : 0;
+        final List<HandDto> handDtos = new ArrayList<>(hands.size());
+        for (int i = 0; i < hands.size(); i++)
+            handDtos.add(i < reusableHands ? previous.hands().get(i) : HandConverter.toDto(hands.get(i)));
+
         return new GameDto(
                 game.getUuid(),
                 game.getTimestamp(),
@@ -42,7 +59,8 @@ public class GameConverter {
                 PlayerConverter.toDto(game.getPlayer2()),
                 PlayerConverter.toDto(game.getFirstToPlay()),
                 PlayerConverter.toDto(game.getLastToPlay()),
-                game.getHands().stream().map(HandConverter::toDto).toList()
+                List.copyOf(handDtos),
+                game.getVersion()
         );
     }
 
@@ -52,9 +70,33 @@ public class GameConverter {
         final Player player2 = PlayerConverter.fromDto(dto.player2());
         final Player firstToPlay = dto.firstToPlay().uuid().equals(player1.getUuid()) ? player1 : player2;
         final Player lastToPlay = dto.lastToPlay().uuid().equals(player1.getUuid()) ? player1 : player2;
-        final List<Hand> hands = dto.hands().stream()
-                .map(handDto -> HandConverter.fromDto(handDto, player1, player2))
-                .toList();
-        return new Game(dto.gameUuid(), dto.timestamp(), player1, player2, firstToPlay, lastToPlay, hands);
+
+        final List<Hand> hands = new ArrayList<>(dto.hands().size());
+        final int finishedHands = dto.hands().size() - 1;
+        long nextIntelSequence = 0;
+        for (int i = 0; i < dto.hands().size(); i++) {
+            final HandDto handDto = dto.hands().get(i);
+            final Hand hand = i < finishedHands
+                    ? finishedHandFromDto(handDto, player1, player2, nextIntelSequence)
+                    : HandConverter.fromDto(handDto, player1, player2, nextIntelSequence);
+            nextIntelSequence = hand.nextIntelSequence();
+            hands.add(hand);
+        }
+
+        final Game game = new Game(dto.gameUuid(), dto.timestamp(), player1, player2, firstToPlay, lastToPlay, hands);
+        game.setVersion(dto.version());
+        return game;
+    }
+
+    //Repositories keep handing out the same dtos of finished hands, so each of them is converted once. Every game gets
+    //its own fork of the converted hand, played by its own players, and the converted hand itself is never handed out.
+    private static Hand finishedHandFromDto(HandDto dto, Player player1, Player player2, long firstIntelSequence) {
+        Hand converted = finishedHands.get(dto);
+        if (converted == null) {
+            converted = HandConverter.fromDto(dto, player1, player2, firstIntelSequence);
+            finishedHands.put(dto, converted);
+        }
+        final Player firstToPlay = converted.getFirstToPlay().equals(player1) ? player1 : player2;
+        return converted.fork(firstToPlay, firstToPlay == player1 ? player2 : player1);
     }
 }
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+//Only what is needed to remove an inactive game and record its result, so stores can answer it with a projection.
+//The version tells whether the game was updated after it was found inactive.
+public record InactiveGameDto(UUID gameUuid, LocalDateTime timestamp, UUID player1Uuid, UUID player2Uuid,
+                              UUID inactivePlayerUuid, long version) {
+
+    //The inactive player is the one expected to act in the current hand, or the first player if nobody is.
+    public static InactiveGameDto of(GameDto game) {
+        final PlayerDto currentPlayer = game.hands().isEmpty()
+                ? null : game.hands().get(game.hands().size() - 1).currentPlayer();
+        final UUID inactivePlayer = currentPlayer != null ? currentPlayer.uuid() : game.player1().uuid();
+        return new InactiveGameDto(game.gameUuid(), game.timestamp(), game.player1().uuid(), game.player2().uuid(),
+                inactivePlayer, game.version());
+    }
+}
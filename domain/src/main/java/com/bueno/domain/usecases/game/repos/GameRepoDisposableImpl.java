@@ -21,8 +21,10 @@
 package com.bueno.domain.usecases.game.repos;
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -45,13 +47,27 @@ public class GameRepoDisposableImpl implements GameRepository {
         game = null;
     }
 
+    @Override
+    public void deleteAll(Collection<UUID> uuids) {
+        if (game != null && uuids.contains(game.gameUuid())) game = null;
+    }
+
+    @Override
+    public Collection<InactiveGameDto> deleteAllInactive(Collection<InactiveGameDto> games) {
+        final List<InactiveGameDto> deleted = games.stream()
+                .filter(each -> game != null && each.gameUuid().equals(game.gameUuid()) && each.version() == game.version())
+                .toList();
+        if (!deleted.isEmpty()) game = null;
+        return deleted;
+    }
+
     @Override
     public Optional<GameDto> findByPlayerUuid(UUID playerUuid) {
         return Optional.ofNullable(game);
     }
 
     @Override
-    public Collection<GameDto> findAllInactiveAfter(int minutes) {
-        return null;
+    public Collection<InactiveGameDto> findAllInactiveAfter(int minutes) {
+        return List.of();
     }
 }
@@ -21,6 +21,7 @@
 package com.bueno.domain.usecases.game.repos;
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -30,8 +31,11 @@ public interface GameRepository {
     void save(GameDto gameDto);
     void update(GameDto gameDto);
     void delete(UUID uuid);
+    void deleteAll(Collection<UUID> uuids);
+    //Deletes the games not updated since they were found inactive, and returns the ones it deleted.
+    Collection<InactiveGameDto> deleteAllInactive(Collection<InactiveGameDto> games);
     Optional<GameDto> findByPlayerUuid(UUID playerUuid);
 
-    Collection<GameDto> findAllInactiveAfter(int minutes);
+    Collection<InactiveGameDto> findAllInactiveAfter(int minutes);
 
 }
@@ -22,42 +22,157 @@ package com.bueno.domain.usecases.game.repos;
 
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.domain.usecases.utils.exceptions.ConcurrentGameUpdateException;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
-import java.util.function.Predicate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 
+//Games are spread over lock-striped shards by game UUID, so writes to different games rarely contend. Each write
+//happens under the lock of its shard, which keeps a game and its player index entries consistent.
 public class GameRepositoryInMemoryImpl implements GameRepository {
 
-    private static final Map<UUID, GameDto> games = new HashMap<>();
+    private static final int SHARDS = 16;
+    private static final Shard[] shards = new Shard[SHARDS];
+    private static final Map<UUID, UUID> gameByPlayer = new ConcurrentHashMap<>();
+
+    static {
+        for (int i = 0; i < SHARDS; i++) shards[i] = new Shard();
+    }
 
     @Override
     public void save(GameDto game) {
-        games.put(game.gameUuid(), game);
+        final Shard shard = shardOf(game.gameUuid());
+        shard.write(() -> {
+            final GameDto replaced = shard.games.put(game.gameUuid(), game);
+            if (replaced != null) unindex(replaced);
+            index(game);
+        });
     }
 
     @Override
     public void update(GameDto gameDto) {
-        games.replace(gameDto.gameUuid(), gameDto);
+        final Shard shard = shardOf(gameDto.gameUuid());
+        shard.write(() -> {
+            final GameDto stored = shard.games.get(gameDto.gameUuid());
+            if (stored == null) return;
+            if (stored.version() >= gameDto.version())
+                throw new ConcurrentGameUpdateException("Game was updated concurrently: " + gameDto.gameUuid());
+            shard.games.put(gameDto.gameUuid(), gameDto);
+            unindex(stored);
+            index(gameDto);
+        });
     }
 
     @Override
     public void delete(UUID uuid) {
-        games.remove(uuid);
+        final Shard shard = shardOf(uuid);
+        shard.write(() -> {
+            final GameDto game = shard.games.remove(uuid);
+            if (game != null) unindex(game);
+        });
+    }
+
+    @Override
+    public void deleteAll(Collection<UUID> uuids) {
+        uuids.forEach(this::delete);
+    }
+
+    @Override
+    public Collection<InactiveGameDto> deleteAllInactive(Collection<InactiveGameDto> games) {
+        final List<InactiveGameDto> deleted = new ArrayList<>();
+        for (InactiveGameDto game : games) {
+            final Shard shard = shardOf(game.gameUuid());
+            shard.write(() -> {
+                final GameDto stored = shard.games.get(game.gameUuid());
+                if (stored == null || stored.version() != game.version()) return;
+                shard.games.remove(game.gameUuid());
+                unindex(stored);
+                deleted.add(game);
+            });
+        }
+        return deleted;
     }
 
     @Override
     public Optional<GameDto> findByPlayerUuid(UUID uuid) {
-        Predicate<GameDto> hasPlayer = game -> hasUuid(game.player1(), uuid) || hasUuid(game.player2(), uuid);
-        return games.values().stream().filter(hasPlayer).findAny();
+        final UUID gameUuid = uuid != null ? gameByPlayer.get(uuid) : null;
+        if (gameUuid == null) return Optional.empty();
+        final Shard shard = shardOf(gameUuid);
+        return shard.read(() -> Optional.ofNullable(shard.games.get(gameUuid)))
+                .filter(game -> hasUuid(game.player1(), uuid) || hasUuid(game.player2(), uuid));
     }
 
     @Override
-    public Collection<GameDto> findAllInactiveAfter(int minutes) {
-        return null;
+    public Collection<InactiveGameDto> findAllInactiveAfter(int minutes) {
+        final Instant now = Instant.now();
+        final List<InactiveGameDto> inactiveGames = new ArrayList<>();
+        for (Shard shard : shards)
+            inactiveGames.addAll(shard.read(() -> shard.games.values().stream()
+                    .filter(game -> isInactive(game, minutes, now))
+                    .map(InactiveGameDto::of)
+                    .toList()));
+        return inactiveGames;
+    }
+
+    //Same rule as the persistent repository: a game is inactive when the last intel of its last hand is old enough.
+    private static boolean isInactive(GameDto game, int minutes, Instant now) {
+        if (game.hands().isEmpty()) return false;
+        final HandDto hand = game.hands().get(game.hands().size() - 1);
+        if (hand.history().isEmpty()) return false;
+        final IntelDto intel = hand.history().get(hand.history().size() - 1);
+        return Duration.between(intel.timestamp(), now).toMinutes() >= minutes;
+    }
+
+    private static Shard shardOf(UUID gameUuid) {
+        return shards[Math.floorMod(gameUuid.hashCode(), SHARDS)];
+    }
+
+    private static void index(GameDto game) {
+        gameByPlayer.put(game.player1().uuid(), game.gameUuid());
+        gameByPlayer.put(game.player2().uuid(), game.gameUuid());
+    }
+
+    private static void unindex(GameDto game) {
+        gameByPlayer.remove(game.player1().uuid(), game.gameUuid());
+        gameByPlayer.remove(game.player2().uuid(), game.gameUuid());
     }
 
     private static boolean hasUuid(PlayerDto player, UUID uuid) {
         return player.uuid().equals(uuid);
     }
+
+    private static final class Shard {
+        private final Map<UUID, GameDto> games = new HashMap<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private <T> T read(Supplier<T> action) {
+            final Lock readLock = lock.readLock();
+            readLock.lock();
+            try {
+                return action.get();
+            } finally {
+                readLock.unlock();
+            }
+        }
+
+        private void write(Runnable action) {
+            final Lock writeLock = lock.writeLock();
+            writeLock.lock();
+            try {
+                action.run();
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
 }
@@ -24,12 +24,17 @@ import com.bueno.domain.usecases.game.dtos.GameResultDto;
 import com.bueno.domain.usecases.game.dtos.GameResultUsernamesDto;
 import com.bueno.domain.usecases.game.dtos.PlayerWinsDto;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface GameResultRepository {
     void save(GameResultDto gameResultDto);
 
+    default void saveAll(Collection<GameResultDto> gameResultDtos) {
+        gameResultDtos.forEach(this::save);
+    }
+
     List<PlayerWinsDto> findTopWinners(Integer maxNumberOfUsers);
 
     List<GameResultUsernamesDto> findAllByUserUuid(UUID uuid);
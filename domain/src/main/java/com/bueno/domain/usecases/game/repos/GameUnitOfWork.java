@@ -0,0 +1,195 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.domain.usecases.game.repos;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+//Request-scoped unit of work: the game is loaded and converted once, shared by validation, the action and bot
+//follow-ups, and written back once on commit. Units begun while another one using the same repository is active in
+//the current thread join it, so their commit and close calls are left to the outermost unit.
+//The outermost unit also holds the lock stripe of its game until it is closed. Requests for the same game are
+//serialized, while requests for other games only contend when their UUIDs share a stripe. A unit works on a single
+//game, so it never holds two stripes and can not deadlock with a unit taking them in the opposite order.
+public final class GameUnitOfWork implements AutoCloseable {
+
+    private static final int LOCK_STRIPES = 256;
+    private static final ThreadLocal<GameUnitOfWork> active = new ThreadLocal<>();
+    private static final ReentrantLock[] lockStripes = new ReentrantLock[LOCK_STRIPES];
+
+    static {
+        for (int i = 0; i < LOCK_STRIPES; i++) lockStripes[i] = new ReentrantLock();
+    }
+
+    private final GameRepository gameRepository;
+    private final GameUnitOfWork root;
+    private ReentrantLock heldLock;
+    private UUID lockedGameUuid;
+    private Game game;
+    private GameDto stored;
+    private boolean dirty;
+
+    private GameUnitOfWork(GameRepository gameRepository, GameUnitOfWork root) {
+        this.gameRepository = gameRepository;
+        this.root = root;
+    }
+
+    public static GameUnitOfWork begin(GameRepository gameRepository){
+        Objects.requireNonNull(gameRepository, "Game repository must not be null!");
+        final GameUnitOfWork current = active.get();
+        if(current != null && current.gameRepository == gameRepository) return new GameUnitOfWork(gameRepository, current);
+        if(current != null) return new GameUnitOfWork(gameRepository, null);
+
+        final GameUnitOfWork unitOfWork = new GameUnitOfWork(gameRepository, null);
+        active.set(unitOfWork);
+        return unitOfWork;
+    }
+
+    //Runs the action holding the lock stripes of all the given games, taken in index order. A unit never waits for a
+    //stripe while holding another one, so this can not deadlock with the units working on those games.
+    public static <T> T withGamesLocked(Collection<UUID> gameUuids, Supplier<T> action){
+        final int[] stripes = gameUuids.stream().mapToInt(GameUnitOfWork::stripeOf).distinct().sorted().toArray();
+        int locked = 0;
+        try {
+            for (int stripe : stripes) {
+                lockStripes[stripe].lock();
+                locked++;
+            }
+            return action.get();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) lockStripes[stripes[i]].unlock();
+        }
+    }
+
+    public Optional<Game> findByPlayerUuid(UUID playerUuid){
+        if(root != null) return root.findByPlayerUuid(playerUuid);
+        if(game != null && isPlaying(game, playerUuid)) return Optional.of(game);
+
+        Optional<GameDto> found = gameRepository.findByPlayerUuid(playerUuid);
+        //A game read while another request held its lock is outdated, so it is read again once the lock is taken. Any
+        //other stale read is caught by the version check of the repository.
+        if (found.isPresent() && lock(found.get().gameUuid())) found = gameRepository.findByPlayerUuid(playerUuid);
+        if (found.isEmpty()) return Optional.empty();
+        final Game loaded = GameConverter.fromDto(found.get());
+        replaceGame(loaded, found.get());
+        return Optional.of(loaded);
+    }
+
+    //Uses a game loaded outside this unit, unless the unit already tracks an instance of the same game.
+    public void attach(Game game){
+        if(root != null) {
+            root.attach(game);
+            return;
+        }
+        lock(game.getUuid());
+        if(this.game == null || !this.game.equals(game)) replaceGame(game, null);
+    }
+
+    public void update(Game game){
+        if(root != null) {
+            root.update(game);
+            return;
+        }
+        lock(game.getUuid());
+        if(this.game != game) replaceGame(game, null);
+        dirty = true;
+    }
+
+    //Deletes the game while holding its lock, so no request waiting for it can write it back afterwards.
+    public void remove(Game game){
+        if(root != null) {
+            root.remove(game);
+            return;
+        }
+        lock(game.getUuid());
+        if(game.equals(this.game)) {
+            this.game = null;
+            stored = null;
+            dirty = false;
+        }
+        gameRepository.delete(game.getUuid());
+    }
+
+    public void commit(){
+        if(root != null || !dirty) return;
+        final long version = game.getVersion();
+        game.setVersion(version + 1);
+        final GameDto dto;
+        try {
+            dto = GameConverter.toDto(game, stored);
+            gameRepository.update(dto);
+        } catch (RuntimeException e) {
+            game.setVersion(version);
+            throw e;
+        }
+        stored = dto;
+        dirty = false;
+    }
+
+    @Override
+    public void close() {
+        if(root != null) return;
+        if(active.get() == this) active.remove();
+        if(heldLock == null) return;
+        heldLock.unlock();
+        heldLock = null;
+        lockedGameUuid = null;
+    }
+
+    //Returns whether the unit had to wait for the lock.
+    private boolean lock(UUID gameUuid) {
+        Objects.requireNonNull(gameUuid, "Game UUID must not be null!");
+        if (lockedGameUuid != null) {
+            if (lockedGameUuid.equals(gameUuid)) return false;
+            throw new IllegalStateException("Unit of work already works on game " + lockedGameUuid + "!");
+        }
+        final ReentrantLock lock = lockStripes[stripeOf(gameUuid)];
+        final boolean contended = !lock.tryLock();
+        if (contended) lock.lock();
+        heldLock = lock;
+        lockedGameUuid = gameUuid;
+        return contended;
+    }
+
+    private static int stripeOf(UUID gameUuid) {
+        return Math.floorMod(gameUuid.hashCode(), LOCK_STRIPES);
+    }
+
+    //The stored dto, when known, lets the commit reuse the dtos of hands that were already finished.
+    private void replaceGame(Game game, GameDto stored) {
+        commit();
+        this.game = game;
+        this.stored = stored;
+    }
+
+    private static boolean isPlaying(Game game, UUID playerUuid) {
+        final Player player1 = game.getPlayer1();
+        final Player player2 = game.getPlayer2();
+        return player1 != null && playerUuid.equals(player1.getUuid()) || player2 != null && playerUuid.equals(player2.getUuid());
+    }
+}
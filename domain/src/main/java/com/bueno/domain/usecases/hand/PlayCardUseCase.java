@@ -26,9 +26,9 @@ import com.bueno.domain.entities.hand.Hand;
 import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.bot.BotUseCase;
-import com.bueno.domain.usecases.game.converter.GameConverter;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
+import com.bueno.domain.usecases.game.repos.GameUnitOfWork;
 import com.bueno.domain.usecases.hand.dtos.PlayCardDto;
 import com.bueno.domain.usecases.hand.validator.ActionValidator;
 import com.bueno.domain.usecases.intel.converters.CardConverter;
@@ -53,11 +53,20 @@ public class PlayCardUseCase {
     public PlayCardUseCase(GameRepository gameRepository,
                            GameResultRepository gameResultRepository,
                            HandResultRepository handResultRepository) {
+        this(gameRepository, gameResultRepository, handResultRepository,
+                new BotUseCase(gameRepository, gameResultRepository, handResultRepository));
+    }
+
+    //Use a null botUseCase to apply the action only, without letting bots play afterwards.
+    public PlayCardUseCase(GameRepository gameRepository,
+                           GameResultRepository gameResultRepository,
+                           HandResultRepository handResultRepository,
+                           BotUseCase botUseCase) {
 
         this.gameRepository = gameRepository;
         this.gameResultRepository = gameResultRepository;
         this.handResultRepository = handResultRepository;
-        this.botUseCase = new BotUseCase(gameRepository, gameResultRepository, handResultRepository);
+        this.botUseCase = botUseCase;
     }
 
     public IntelDto playCard(PlayCardDto request) {
@@ -69,12 +78,20 @@ public class PlayCardUseCase {
     }
 
     private IntelDto playCard(PlayCardDto request, boolean discard) {
+        try (GameUnitOfWork unitOfWork = GameUnitOfWork.begin(gameRepository)) {
+            final IntelDto intel = playCard(unitOfWork, request, discard);
+            unitOfWork.commit();
+            return intel;
+        }
+    }
+
+    private IntelDto playCard(GameUnitOfWork unitOfWork, PlayCardDto request, boolean discard) {
         final var validator = new ActionValidator(gameRepository, PossibleAction.PLAY);
         final var notification = validator.validate(request.uuid());
 
         if (notification.hasErrors()) throw new UnsupportedGameRequestException(notification.errorMessage());
 
-        Game game = gameRepository.findByPlayerUuid(request.uuid()).map(GameConverter::fromDto).orElseThrow();
+        final Game game = unitOfWork.findByPlayerUuid(request.uuid()).orElseThrow();
         final Hand hand = game.currentHand();
         final Player player = hand.getCurrentPlayer();
         final Card cardToPlay = CardConverter.fromDto(request.card());
@@ -86,12 +103,24 @@ public class PlayCardUseCase {
         final ResultHandler resultHandler = new ResultHandler(gameResultRepository, handResultRepository);
         final IntelDto gameResult = resultHandler.handle(game);
 
-        gameRepository.update(GameConverter.toDto(game));
+        unitOfWork.update(game);
         if(gameResult != null) return gameResult;
-
-        botUseCase.playWhenNecessary(game);
-
-        game = gameRepository.findByPlayerUuid(request.uuid()).map(GameConverter::fromDto).orElseThrow();
+        if(botUseCase != null) playBotsAfter(unitOfWork, game);
         return IntelConverter.toDto(game.getIntel());
     }
+
+    //The game is normally written once, when the request's unit commits. If a bot fails, it is written here instead,
+    //so the player's card is kept even though the error is still reported.
+    private void playBotsAfter(GameUnitOfWork unitOfWork, Game game) {
+        try {
+            botUseCase.playWhenNecessary(game);
+        } catch (RuntimeException e) {
+            try {
+                unitOfWork.commit();
+            } catch (RuntimeException commitFailure) {
+                e.addSuppressed(commitFailure);
+            }
+            throw e;
+        }
+    }
 }
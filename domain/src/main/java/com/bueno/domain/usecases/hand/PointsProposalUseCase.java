@@ -25,9 +25,9 @@ import com.bueno.domain.entities.hand.Hand;
 import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.bot.BotUseCase;
-import com.bueno.domain.usecases.game.converter.GameConverter;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
+import com.bueno.domain.usecases.game.repos.GameUnitOfWork;
 import com.bueno.domain.usecases.hand.validator.ActionValidator;
 import com.bueno.domain.usecases.intel.converters.IntelConverter;
 import com.bueno.domain.usecases.intel.dtos.IntelDto;
@@ -39,6 +39,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Service
 public class PointsProposalUseCase {
@@ -56,46 +57,71 @@ public class PointsProposalUseCase {
     public PointsProposalUseCase(GameRepository gameRepository,
                                  GameResultRepository gameResultRepository,
                                  HandResultRepository handResultRepository) {
+        this(gameRepository, gameResultRepository, handResultRepository,
+                new BotUseCase(gameRepository, gameResultRepository, handResultRepository));
+    }
+
+    //Use a null botUseCase to apply the action only, without letting bots play afterwards.
+    public PointsProposalUseCase(GameRepository gameRepository,
+                                 GameResultRepository gameResultRepository,
+                                 HandResultRepository handResultRepository,
+                                 BotUseCase botUseCase) {
         this.gameRepository = Objects.requireNonNull( gameRepository);
         this.gameResultRepository = gameResultRepository;
         this.handResultRepository = handResultRepository;
-        this.botUseCase = new BotUseCase(gameRepository, gameResultRepository, handResultRepository);
+        this.botUseCase = botUseCase;
     }
 
     public IntelDto raise(UUID playerUuid){
+        return inUnitOfWork(unitOfWork -> raise(unitOfWork, playerUuid));
+    }
+
+    public IntelDto accept(UUID playerUuid){
+        return inUnitOfWork(unitOfWork -> accept(unitOfWork, playerUuid));
+    }
+
+    public IntelDto quit(UUID playerUuid){
+        return inUnitOfWork(unitOfWork -> quit(unitOfWork, playerUuid));
+    }
+
+    private IntelDto inUnitOfWork(Function<GameUnitOfWork, IntelDto> action) {
+        try (GameUnitOfWork unitOfWork = GameUnitOfWork.begin(gameRepository)) {
+            final IntelDto intel = action.apply(unitOfWork);
+            unitOfWork.commit();
+            return intel;
+        }
+    }
+
+    private IntelDto raise(GameUnitOfWork unitOfWork, UUID playerUuid){
         validateInput(playerUuid, PossibleAction.RAISE);
 
-        Game game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
+        final Game game = unitOfWork.findByPlayerUuid(playerUuid).orElseThrow();
         final Hand hand = game.currentHand();
         final Player player = hand.getCurrentPlayer();
 
         hand.raise(player);
-        gameRepository.update(GameConverter.toDto(game));
-        botUseCase.playWhenNecessary(game);
-
-        game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
+        unitOfWork.update(game);
+        playBotsAfter(unitOfWork, game);
         return IntelConverter.toDto(game.getIntel());
     }
 
-    public IntelDto accept(UUID playerUuid){
+    private IntelDto accept(GameUnitOfWork unitOfWork, UUID playerUuid){
         validateInput(playerUuid, PossibleAction.ACCEPT);
 
-        Game game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
+        final Game game = unitOfWork.findByPlayerUuid(playerUuid).orElseThrow();
         final Hand hand = game.currentHand();
         final Player player = hand.getCurrentPlayer();
 
         hand.accept(player);
-        gameRepository.update(GameConverter.toDto(game));
-        botUseCase.playWhenNecessary(game);
-
-        game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
+        unitOfWork.update(game);
+        playBotsAfter(unitOfWork, game);
         return IntelConverter.toDto(game.getIntel());
     }
 
-    public IntelDto quit(UUID playerUuid){
+    private IntelDto quit(GameUnitOfWork unitOfWork, UUID playerUuid){
         validateInput(playerUuid, PossibleAction.QUIT);
 
-        Game game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
+        final Game game = unitOfWork.findByPlayerUuid(playerUuid).orElseThrow();
         final Hand hand = game.currentHand();
         final Player player = hand.getCurrentPlayer();
 
@@ -104,15 +130,27 @@ public class PointsProposalUseCase {
         final ResultHandler resultHandler = new ResultHandler(gameResultRepository, handResultRepository);
         final IntelDto gameResult = resultHandler.handle(game);
 
-        gameRepository.update(GameConverter.toDto(game));
+        unitOfWork.update(game);
         if(gameResult != null) return gameResult;
-
-        botUseCase.playWhenNecessary(game);
-
-        game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
+        playBotsAfter(unitOfWork, game);
         return IntelConverter.toDto(game.getIntel());
     }
 
+    //A failing bot still reports its error, but the player's proposal is committed before it leaves the unit.
+    private void playBotsAfter(GameUnitOfWork unitOfWork, Game game) {
+        if(botUseCase == null) return;
+        try {
+            botUseCase.playWhenNecessary(game);
+        } catch (RuntimeException e) {
+            try {
+                unitOfWork.commit();
+            } catch (RuntimeException commitFailure) {
+                e.addSuppressed(commitFailure);
+            }
+            throw e;
+        }
+    }
+
     private void validateInput(UUID usedUuid, PossibleAction raise) {
         final Validator<UUID> validator = new ActionValidator(gameRepository, raise);
         final Notification notification = validator.validate(usedUuid);
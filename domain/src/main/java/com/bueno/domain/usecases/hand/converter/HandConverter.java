@@ -37,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class HandConverter {
 
@@ -66,6 +67,13 @@ public class HandConverter {
 
     public static Hand fromDto(HandDto dto, Player player1, Player player2){
         if(dto == null) return  null;
+        final long firstIntelSequence = dto.history().isEmpty() ? 0 : Math.max(0, dto.history().get(0).sequence());
+        return fromDto(dto, player1, player2, firstIntelSequence);
+    }
+
+    //The first intel sequence numbers history entries persisted without a sequence of their own.
+    public static Hand fromDto(HandDto dto, Player player1, Player player2, long firstIntelSequence){
+        if(dto == null) return  null;
 
         final Map<UUID, Player> players = Map.of(player1.getUuid(), player1, player2.getUuid(), player2);
 
@@ -85,7 +93,9 @@ public class HandConverter {
                 dto.dealtCards().stream().map(CardConverter::fromDto).toList(),
                 dto.openCards().stream().map(CardConverter::fromDto).toList(),
                 rounds,
-                dto.history().stream().map(IntelConverter::fromDto).toList(),
+                IntStream.range(0, dto.history().size())
+                        .mapToObj(i -> IntelConverter.fromDto(dto.history().get(i), firstIntelSequence + i))
+                        .toList(),
                 possibleActions,
                 players.get(dto.firstToPlay().uuid()),
                 players.get(dto.lastToPlay().uuid()),
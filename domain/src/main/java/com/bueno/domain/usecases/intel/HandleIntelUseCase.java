@@ -54,6 +54,16 @@ public class HandleIntelUseCase {
         return new IntelSinceDto(lastIntelTimestamp, intelSince);
     }
 
+    //Cursor based variant: returns the intel recorded after the one with the given sequence, without scanning the
+    //whole game history.
+    public IntelSinceDto findIntelAfter(UUID uuid, long lastIntelSequence){
+        final var game = getGameOrThrow(uuid);
+        final var intelAfter = game.getIntelAfter(lastIntelSequence).stream()
+                .map(IntelConverter::toDto)
+                .collect(Collectors.toList());
+        return new IntelSinceDto(null, lastIntelSequence, intelAfter);
+    }
+
     public IntelDto findLastIntel(UUID uuid){
         final var game = getGameOrThrow(uuid);
         return IntelConverter.toDto(game.getIntel());
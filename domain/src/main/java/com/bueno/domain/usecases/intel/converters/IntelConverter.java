@@ -35,6 +35,7 @@ public class IntelConverter {
 
         return new IntelDto(
                 intel.timestamp(),
+                intel.sequence(),
                 intel.isGameDone(),
                 intel.gameWinner().orElse(null),
                 intel.isMaoDeOnze(),
@@ -61,6 +62,11 @@ public class IntelConverter {
     }
 
     public static Intel fromDto(IntelDto dto){
+        return fromDto(dto, dto != null ? dto.sequence() : 0);
+    }
+
+    //Intel stored before sequence numbers existed has a negative sequence and takes the given one instead.
+    public static Intel fromDto(IntelDto dto, long fallbackSequence){
         if(dto == null) return null;
 
         final List<Intel.PlayerIntel> playersDto = dto.players().stream()
@@ -69,6 +75,7 @@ public class IntelConverter {
 
         return new Intel(
                 dto.timestamp(),
+                dto.sequence() >= 0 ? dto.sequence() : fallbackSequence,
                 dto.isGameDone(),
                 dto.gameWinner(),
                 dto.isMaoDeOnze(),
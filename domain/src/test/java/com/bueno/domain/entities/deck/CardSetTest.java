@@ -0,0 +1,93 @@
+/*
+ *  Copyright (C) 2021 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.domain.entities.deck;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class CardSetTest {
+
+    @Test
+    @DisplayName("Should contain added cards")
+    void shouldContainAddedCards() {
+        final Card card = Card.of(Rank.SEVEN, Suit.HEARTS);
+        final CardSet cardSet = CardSet.EMPTY.add(card);
+        assertThat(cardSet.contains(card)).isTrue();
+        assertThat(cardSet.size()).isOne();
+    }
+
+    @Test
+    @DisplayName("Should not change original set when adding or removing cards")
+    void shouldNotChangeOriginalSetWhenAddingOrRemovingCards() {
+        final Card card = Card.of(Rank.SEVEN, Suit.HEARTS);
+        final CardSet original = CardSet.of(card);
+        original.add(Card.of(Rank.ACE, Suit.SPADES));
+        original.remove(card);
+        assertThat(original).isEqualTo(CardSet.of(card));
+    }
+
+    @Test
+    @DisplayName("Should not contain removed cards")
+    void shouldNotContainRemovedCards() {
+        final Card card = Card.of(Rank.KING, Suit.CLUBS);
+        final CardSet cardSet = CardSet.of(card, Card.of(Rank.JACK, Suit.DIAMONDS)).remove(card);
+        assertThat(cardSet.contains(card)).isFalse();
+        assertThat(cardSet.size()).isOne();
+    }
+
+    @Test
+    @DisplayName("Should iterate cards in ordinal order")
+    void shouldIterateCardsInOrdinalOrder() {
+        final Card three = Card.of(Rank.THREE, Suit.CLUBS);
+        final Card four = Card.of(Rank.FOUR, Suit.DIAMONDS);
+        final Card queen = Card.of(Rank.QUEEN, Suit.SPADES);
+        final List<Card> iterated = new ArrayList<>();
+        for (Card card : CardSet.of(three, queen, four)) iterated.add(card);
+        assertThat(iterated).containsExactly(four, queen, three);
+    }
+
+    @Test
+    @DisplayName("Should have all open cards in full set")
+    void shouldHaveAllOpenCardsInFullSet() {
+        assertThat(CardSet.FULL.size()).isEqualTo(40);
+        assertThat(CardSet.FULL.toList()).containsExactlyInAnyOrderElementsOf(new Deck().take(40));
+    }
+
+    @Test
+    @DisplayName("Should skip closed cards when copying collections")
+    void shouldSkipClosedCardsWhenCopyingCollections() {
+        final Card card = Card.of(Rank.TWO, Suit.HEARTS);
+        assertThat(CardSet.copyOf(List.of(card, Card.closed()))).isEqualTo(CardSet.of(card));
+    }
+
+    @Test
+    @DisplayName("Should not accept closed cards")
+    void shouldNotAcceptClosedCards() {
+        assertThatIllegalArgumentException().isThrownBy(() -> CardSet.EMPTY.add(Card.closed()));
+    }
+}
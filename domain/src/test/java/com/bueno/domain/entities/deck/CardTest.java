@@ -197,4 +197,38 @@ class CardTest {
         final Card zap = Card.of(Rank.THREE, Suit.CLUBS);
         assertThat(zap.compareValueTo(copas, vira)).isPositive();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should map every open card to a distinct ordinal and back")
+    void shouldMapEveryOpenCardToADistinctOrdinalAndBack() {
+        SoftAssertions softly = new SoftAssertions();
+        for (int ordinal = 0; ordinal < Card.NUMBER_OF_OPEN_CARDS; ordinal++)
+            softly.assertThat(Card.ofOrdinal(ordinal).ordinal()).isEqualTo(ordinal);
+        softly.assertThat(Card.of(Rank.FOUR, Suit.DIAMONDS).ordinal()).isZero();
+        softly.assertThat(Card.of(Rank.THREE, Suit.CLUBS).ordinal()).isEqualTo(39);
+        softly.assertThat(Card.closed().ordinal()).isEqualTo(-1);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should manilhas be stronger than any other card for every vira")
+    void shouldManilhasBeStrongerThanAnyOtherCardForEveryVira() {
+        SoftAssertions softly = new SoftAssertions();
+        for (int viraOrdinal = 0; viraOrdinal < Card.NUMBER_OF_OPEN_CARDS; viraOrdinal++) {
+            final Card vira = Card.ofOrdinal(viraOrdinal);
+            for (int ordinal = 0; ordinal < Card.NUMBER_OF_OPEN_CARDS; ordinal++) {
+                final Card card = Card.ofOrdinal(ordinal);
+                final int strength = Card.strength(card, vira);
+                if (card.isManilha(vira)) softly.assertThat(strength).as(card + " with vira " + vira).isBetween(11, 14);
+                else softly.assertThat(strength).as(card + " with vira " + vira).isBetween(1, 10);
+            }
+        }
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should closed card have no strength")
+    void shouldClosedCardHaveNoStrength() {
+        assertThat(Card.strength(Card.closed(), Card.of(Rank.SEVEN, Suit.HEARTS))).isZero();
+    }
+}
@@ -89,4 +89,78 @@ class DeckTest {
         softly.assertThat(deck.size()).as("Number of remaining cards in the deck").isEqualTo(39);
         softly.assertAll();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should restore all cards after reset")
+    void shouldRestoreAllCardsAfterReset() {
+        deck.take(7);
+        deck.reset();
+        assertEquals(40, deck.size());
+    }
+
+    @Test
+    @DisplayName("Should deal the same cards for the same seed")
+    void shouldDealTheSameCardsForTheSameSeed() {
+        final Deck deck1 = new Deck(42L);
+        final Deck deck2 = new Deck(42L);
+        deck1.shuffle();
+        deck2.shuffle();
+        assertThat(deck1.take(7)).isEqualTo(deck2.take(7));
+    }
+
+    @Test
+    @DisplayName("Should deal the same sequence of hands for the same seed after resets")
+    void shouldDealTheSameSequenceOfHandsForTheSameSeedAfterResets() {
+        final Deck deck1 = new Deck(42L);
+        final Deck deck2 = new Deck(42L);
+        for (int hand = 0; hand < 5; hand++) {
+            deck1.reset();
+            deck2.reset();
+            deck1.shuffle();
+            deck2.shuffle();
+            assertThat(deck1.take(7)).isEqualTo(deck2.take(7));
+        }
+    }
+
+    @Test
+    @DisplayName("Should not accept null random generator")
+    void shouldNotAcceptNullRandomGenerator() {
+        assertThrows(NullPointerException.class, () -> new Deck(null));
+    }
+
+    @Test
+    @DisplayName("Should deal distinct cards after shuffling")
+    void shouldDealDistinctCardsAfterShuffling() {
+        deck.shuffle();
+        final List<Card> cards = deck.take(40);
+        assertEquals(40, CardSet.copyOf(cards).size());
+    }
+
+    @Test
+    @DisplayName("Should not have dealt cards among remaining cards")
+    void shouldNotHaveDealtCardsAmongRemainingCards() {
+        deck.shuffle();
+        final List<Card> cards = deck.take(7);
+        final CardSet remaining = deck.getRemainingCards();
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(remaining.size()).isEqualTo(33);
+        softly.assertThat(CardSet.copyOf(cards).intersection(remaining).isEmpty()).isTrue();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should deal sorted cards again after reset")
+    void shouldDealSortedCardsAgainAfterReset() {
+        deck.shuffle();
+        deck.take(7);
+        deck.reset();
+        assertThat(deck.take(1)).isEqualTo(List.of(Card.of(Rank.FOUR, Suit.DIAMONDS)));
+    }
+
+    @Test
+    @DisplayName("Should not take more cards than available")
+    void shouldNotTakeMoreCardsThanAvailable() {
+        deck.take(38);
+        assertThrows(IndexOutOfBoundsException.class, () -> deck.take(3));
+    }
+}
@@ -26,6 +26,7 @@ import com.bueno.domain.entities.deck.Rank;
 import com.bueno.domain.entities.deck.Suit;
 import com.bueno.domain.entities.hand.Hand;
 import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.intel.IntelRecordingPolicy;
 import com.bueno.domain.entities.player.Player;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -162,6 +163,50 @@ class GameTest {
         assertThat(sut.getIntelSince(firstHandIntel.timestamp()).size()).isEqualTo(6);
     }
 
+    @Test
+    @DisplayName("Should number intel sequentially across hands")
+    void shouldNumberIntelSequentiallyAcrossHands() {
+        final Hand hand = sut.currentHand();
+        hand.playFirstCard(player1, Card.of(Rank.KING, Suit.CLUBS));
+        hand.playSecondCard(player2, Card.of(Rank.JACK, Suit.CLUBS));
+        sut.prepareNewHand();
+
+        final List<Long> sequences = sut.getIntelAfter(-1).stream().map(Intel::sequence).toList();
+        assertThat(sequences).containsExactly(0L, 1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should get only intel after cursor between hands")
+    void shouldGetOnlyIntelAfterCursorBetweenHands() {
+        final Intel firstHandIntel = sut.getIntel();
+        final Hand hand = sut.currentHand();
+
+        hand.playFirstCard(player1, Card.of(Rank.KING, Suit.CLUBS));
+        hand.playSecondCard(player2, Card.of(Rank.JACK, Suit.CLUBS));
+        hand.playFirstCard(player1, Card.of(Rank.KING, Suit.SPADES));
+        hand.playSecondCard(player2, Card.closed());
+        sut.prepareNewHand();
+        final Hand newHand = sut.currentHand();
+        newHand.playFirstCard(player2, Card.of(Rank.KING, Suit.CLUBS));
+
+        final List<Intel> intelAfter = sut.getIntelAfter(firstHandIntel.sequence());
+        assertThat(intelAfter).hasSize(6).containsExactlyElementsOf(sut.getIntelSince(firstHandIntel.timestamp()));
+        assertThat(sut.getIntelAfter(newHand.getLastIntel().sequence())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should deal new hands with the game intel recording policy")
+    void shouldDealNewHandsWithTheGameIntelRecordingPolicy() {
+        sut.setIntelRecording(IntelRecordingPolicy.NONE);
+        sut.prepareNewHand();
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(sut.currentHand().getIntelRecording()).isEqualTo(IntelRecordingPolicy.NONE);
+        softly.assertThat(sut.currentHand().getIntelHistory()).isEmpty();
+        softly.assertThat(sut.getIntel().sequence()).isEqualTo(1);
+        softly.assertAll();
+    }
+
     @Test
     @DisplayName("Should games with same uuid be equal")
     void shouldGamesWithSameUuidBeEqual() {
@@ -190,4 +235,24 @@ class GameTest {
 
         assertThat(new Game(player1, player2, uuid, new Deck()).toString()).isEqualTo(expected);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should not change original game when playing forked game")
+    void shouldNotChangeOriginalGameWhenPlayingForkedGame() {
+        final Game game = new Game(Player.ofBot("Bot1"), Player.ofBot("Bot2"), new Deck(42L));
+        final Game fork = game.fork();
+        final Player forkedPlayer = fork.currentHand().getCurrentPlayer();
+        final Card card = forkedPlayer.getCards().get(0);
+        fork.currentHand().playFirstCard(forkedPlayer, forkedPlayer.play(card));
+
+        final Player originalPlayer = game.currentHand().getCurrentPlayer();
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(fork).as("Game identity").isEqualTo(game);
+        softly.assertThat(originalPlayer.getCards()).as("Original player cards").contains(card);
+        softly.assertThat(game.currentHand().getOpenCards()).as("Original open cards").hasSize(1);
+        softly.assertThat(game.currentHand().getIntelHistory()).as("Original history").hasSize(1);
+        softly.assertThat(fork.currentHand().getOpenCards()).as("Forked open cards").hasSize(2);
+        softly.assertThat(fork.currentHand().getIntelHistory()).as("Forked history").hasSize(2);
+        softly.assertAll();
+    }
+}
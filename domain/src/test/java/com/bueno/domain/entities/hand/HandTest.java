@@ -25,6 +25,8 @@ import com.bueno.domain.entities.deck.Deck;
 import com.bueno.domain.entities.deck.Rank;
 import com.bueno.domain.entities.deck.Suit;
 import com.bueno.domain.entities.game.GameRuleViolationException;
+import com.bueno.domain.entities.intel.Event;
+import com.bueno.domain.entities.intel.IntelRecordingPolicy;
 import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 import org.assertj.core.api.SoftAssertions;
@@ -291,6 +293,14 @@ class HandTest {
             sut.playFirstCard(player1, Card.of(Rank.THREE, Suit.CLUBS));
             assertThat(sut.getPossibleActions()).isEqualTo(possibleActions);
         }
+
+        @Test
+        @DisplayName("Should not allow possible actions to be modified from outside the hand")
+        void shouldNotAllowPossibleActionsToBeModifiedFromOutsideTheHand() {
+            assertThatExceptionOfType(UnsupportedOperationException.class)
+                    .isThrownBy(() -> sut.getPossibleActions().add(QUIT));
+            assertThat(sut.getPossibleActions()).isEqualTo(EnumSet.of(PLAY, RAISE));
+        }
     }
 
     @Nested
@@ -739,4 +749,67 @@ class HandTest {
     private Player getPossibleWinner() {
         return sut.getResult().flatMap(HandResult::getWinner).orElse(null);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should not share appended cards and history between forked hands")
+    void shouldNotShareAppendedCardsAndHistoryBetweenForkedHands() {
+        final Hand fork = sut.fork(player1, player2);
+        fork.playFirstCard(player1, Card.of(Rank.THREE, Suit.SPADES));
+        sut.playFirstCard(player1, Card.of(Rank.FOUR, Suit.HEARTS));
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(sut.getOpenCards()).containsExactly(Card.of(Rank.SEVEN, Suit.CLUBS), Card.of(Rank.FOUR, Suit.HEARTS));
+        softly.assertThat(fork.getOpenCards()).containsExactly(Card.of(Rank.SEVEN, Suit.CLUBS), Card.of(Rank.THREE, Suit.SPADES));
+        softly.assertThat(sut.getIntelHistory()).hasSize(2);
+        softly.assertThat(fork.getIntelHistory()).hasSize(2);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should not allow open cards shared with a fork to be modified from outside the hand")
+    void shouldNotAllowOpenCardsSharedWithAForkToBeModifiedFromOutsideTheHand() {
+        final Hand fork = sut.fork(player1, player2);
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> sut.getOpenCards().add(Card.of(Rank.THREE, Suit.SPADES)));
+        assertThat(fork.getOpenCards()).containsExactly(Card.of(Rank.SEVEN, Suit.CLUBS));
+    }
+
+    @Nested
+    @DisplayName("When recording intel ")
+    class IntelRecordingTest {
+
+        @Test
+        @DisplayName("Should keep only last intel if recording last only")
+        void shouldKeepOnlyLastIntelIfRecordingLastOnly() {
+            sut.setIntelRecording(IntelRecordingPolicy.LAST_ONLY);
+            sut.playFirstCard(player1, Card.of(Rank.THREE, Suit.SPADES));
+            sut.playSecondCard(player2, Card.of(Rank.FOUR, Suit.SPADES));
+
+            SoftAssertions softly = new SoftAssertions();
+            softly.assertThat(sut.getIntelHistory()).containsExactly(sut.getLastIntel());
+            softly.assertThat(sut.getLastIntel().sequence()).isEqualTo(2);
+            softly.assertThat(sut.getIntelAfter(1)).containsExactly(sut.getLastIntel());
+            softly.assertAll();
+        }
+
+        @Test
+        @DisplayName("Should build last intel on demand if not recording")
+        void shouldBuildLastIntelOnDemandIfNotRecording() {
+            sut.setIntelRecording(IntelRecordingPolicy.NONE);
+            sut.playFirstCard(player1, Card.of(Rank.THREE, Suit.SPADES));
+
+            SoftAssertions softly = new SoftAssertions();
+            softly.assertThat(sut.getIntelHistory()).isEmpty();
+            softly.assertThat(sut.nextIntelSequence()).isEqualTo(2);
+            softly.assertThat(sut.getLastIntel().sequence()).isEqualTo(1);
+            softly.assertThat(sut.getLastIntel().event()).contains(Event.PLAY.toString());
+            softly.assertAll();
+        }
+
+        @Test
+        @DisplayName("Should not accept null recording policy")
+        void shouldNotAcceptNullRecordingPolicy() {
+            assertThatNullPointerException().isThrownBy(() -> sut.setIntelRecording(null));
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.domain.entities.hand;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.CardSet;
+import com.bueno.domain.entities.deck.Deck;
+import com.bueno.domain.entities.deck.Rank;
+import com.bueno.domain.entities.deck.Suit;
+import com.bueno.domain.entities.player.Player;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class TrucoStateTest {
+
+    private final Card vira = Card.of(Rank.SEVEN, Suit.CLUBS);
+    private final CardSet cards0 = CardSet.of(Card.of(Rank.THREE, Suit.SPADES), Card.of(Rank.FOUR, Suit.HEARTS), Card.of(Rank.KING, Suit.CLUBS));
+    private final CardSet cards1 = CardSet.of(Card.of(Rank.TWO, Suit.SPADES), Card.of(Rank.FIVE, Suit.HEARTS), Card.of(Rank.QUEEN, Suit.CLUBS));
+    private TrucoState sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = TrucoState.ofNewHand(vira, cards0, cards1, 0, 0);
+    }
+
+    @Test
+    @DisplayName("Should allow playing any card or raising at the start of the hand")
+    void shouldAllowPlayingAnyCardOrRaisingAtTheStartOfTheHand() {
+        final int[] actions = new int[TrucoState.MAX_ACTIONS];
+        final int count = sut.legalActions(actions);
+        assertThat(Arrays.copyOf(actions, count)).containsExactlyInAnyOrder(
+                TrucoState.play(Card.of(Rank.THREE, Suit.SPADES)), TrucoState.play(Card.of(Rank.FOUR, Suit.HEARTS)),
+                TrucoState.play(Card.of(Rank.KING, Suit.CLUBS)), TrucoState.RAISE);
+    }
+
+    @Test
+    @DisplayName("Should not change original state when applying actions")
+    void shouldNotChangeOriginalStateWhenApplyingActions() {
+        final TrucoState next = sut.apply(TrucoState.play(Card.of(Rank.THREE, Suit.SPADES)));
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(sut.cards(0)).isEqualTo(cards0);
+        softly.assertThat(next.cards(0).size()).isEqualTo(2);
+        softly.assertThat(next.getCardToPlayAgainst()).contains(Card.of(Rank.THREE, Suit.SPADES));
+        softly.assertThat(next.currentSeat()).isOne();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should give the round to the strongest card")
+    void shouldGiveTheRoundToTheStrongestCard() {
+        final TrucoState next = sut.apply(TrucoState.play(Card.of(Rank.THREE, Suit.SPADES)))
+                .apply(TrucoState.play(Card.of(Rank.TWO, Suit.SPADES)));
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(next.roundsPlayed()).isOne();
+        softly.assertThat(next.roundWinner(0)).isZero();
+        softly.assertThat(next.currentSeat()).isZero();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should give the hand points to opponent if player quits bet")
+    void shouldGiveTheHandPointsToOpponentIfPlayerQuitsBet() {
+        final TrucoState next = sut.apply(TrucoState.RAISE).apply(TrucoState.QUIT);
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(next.isDone()).isTrue();
+        softly.assertThat(next.resultWinner()).isZero();
+        softly.assertThat(next.getResultPoints()).isEqualTo(HandPoints.ONE);
+        softly.assertThat(next.currentSeat()).isEqualTo(TrucoState.NO_SEAT);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should not allow discarding in the first round")
+    void shouldNotAllowDiscardingInTheFirstRound() {
+        assertThatIllegalStateException().isThrownBy(() -> sut.apply(TrucoState.discard(Card.of(Rank.THREE, Suit.SPADES))));
+    }
+
+    @Test
+    @DisplayName("Should wait for mao de onze decision if only one player has eleven points")
+    void shouldWaitForMaoDeOnzeDecisionIfOnlyOnePlayerHasElevenPoints() {
+        final TrucoState maoDeOnze = TrucoState.ofNewHand(vira, cards0, cards1, 3, 11);
+        final int[] actions = new int[TrucoState.MAX_ACTIONS];
+        final int count = maoDeOnze.legalActions(actions);
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(maoDeOnze.currentSeat()).isOne();
+        softly.assertThat(Arrays.copyOf(actions, count)).containsExactlyInAnyOrder(TrucoState.ACCEPT, TrucoState.QUIT);
+        softly.assertThat(maoDeOnze.apply(TrucoState.ACCEPT).getPoints()).isEqualTo(HandPoints.THREE);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should follow the same rules as hand in random playouts")
+    void shouldFollowTheSameRulesAsHandInRandomPlayouts() {
+        final SplittableRandom random = new SplittableRandom(42);
+        final int[] actions = new int[TrucoState.MAX_ACTIONS];
+
+        for (int i = 0; i < 500; i++) {
+            final Player player0 = new Player(null, "Player0", UUID.randomUUID(), random.nextInt(12), true);
+            final Player player1 = new Player(null, "Player1", UUID.randomUUID(), random.nextInt(12), true);
+            final Deck deck = new Deck(random.nextLong());
+            deck.shuffle();
+            final Card handVira = deck.takeOne();
+            player0.setCards(deck.take(3));
+            player1.setCards(deck.take(3));
+            final Hand hand = random.nextBoolean() ? new Hand(player0, player1, handVira) : new Hand(player1, player0, handVira);
+            TrucoState state = TrucoState.fromHand(hand, player0);
+
+            while (!state.isDone()) {
+                final int action = actions[random.nextInt(state.legalActions(actions))];
+                applyToHand(hand, action);
+                state = state.apply(action);
+                assertThat(TrucoState.fromHand(hand, player0)).isEqualTo(state);
+            }
+        }
+    }
+
+    private void applyToHand(Hand hand, int action) {
+        final Player player = hand.getCurrentPlayer();
+        if (action == TrucoState.RAISE) hand.raise(player);
+        else if (action == TrucoState.ACCEPT) hand.accept(player);
+        else if (action == TrucoState.QUIT) hand.quit(player);
+        else {
+            final Card card = TrucoState.cardOfAction(action);
+            final Card played = TrucoState.isDiscard(action) ? player.discard(card) : player.play(card);
+            if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(player, played);
+            else hand.playSecondCard(player, played);
+        }
+    }
+
+    @Test
+    @DisplayName("Should convert to hand and back without losing state")
+    void shouldConvertToHandAndBackWithoutLosingState() {
+        final Player player0 = Player.ofBot("Player0");
+        final Player player1 = Player.ofBot("Player1");
+        final TrucoState state = sut.apply(TrucoState.play(Card.of(Rank.THREE, Suit.SPADES))).apply(TrucoState.RAISE);
+        final Hand hand = state.toHand(player0, player1);
+        assertThat(TrucoState.fromHand(hand, player0)).isEqualTo(state);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.domain.entities.hand.states;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class HandStatesTest {
+
+    @Test
+    @DisplayName("Should find the same state instance for each persisted state name")
+    void shouldFindTheSameStateInstanceForEachPersistedStateName() {
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(HandStates.ofName("DONE")).isSameAs(Done.INSTANCE);
+        softly.assertThat(HandStates.ofName("NOCARD")).isSameAs(NoCard.INSTANCE);
+        softly.assertThat(HandStates.ofName("ONECARD")).isSameAs(OneCard.INSTANCE);
+        softly.assertThat(HandStates.ofName("WAITINGMAODEONZE")).isSameAs(WaitingMaoDeOnze.INSTANCE);
+        softly.assertThat(HandStates.ofName("WAITINGRAISERESPONSE")).isSameAs(WaitingRaiseResponse.INSTANCE);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should throw if there is no state for name")
+    void shouldThrowIfThereIsNoStateForName() {
+        assertThatIllegalArgumentException().isThrownBy(() -> HandStates.ofName("UNKNOWN"));
+    }
+}
@@ -37,21 +37,21 @@ class OneCardTest {
     @Test
     @DisplayName("Should throw if plays first card in one card state")
     void shouldThrowIfPlaysFirstCardInOneCardState() {
-        OneCard sut = new OneCard(hand);
-        assertThatIllegalStateException().isThrownBy(() -> sut.playFirstCard(null, null));
+        OneCard sut = OneCard.INSTANCE;
+        assertThatIllegalStateException().isThrownBy(() -> sut.playFirstCard(hand, null, null));
     }
 
     @Test
     @DisplayName("Should throw if accepts request or mao de onze in one card state")
     void shouldThrowIfAcceptsRequestOrMaoDeOnzeInOneCardState() {
-        OneCard sut = new OneCard(hand);
-        assertThatIllegalStateException().isThrownBy(() -> sut.accept(null));
+        OneCard sut = OneCard.INSTANCE;
+        assertThatIllegalStateException().isThrownBy(() -> sut.accept(hand, null));
     }
 
     @Test
     @DisplayName("Should throw if quits request or mao de onze in one card state")
     void shouldThrowIfQuitsRequestOrMaoDeOnzeInOneCardState() {
-        OneCard sut = new OneCard(hand);
-        assertThatIllegalStateException().isThrownBy(() -> sut.quit(null));
+        OneCard sut = OneCard.INSTANCE;
+        assertThatIllegalStateException().isThrownBy(() -> sut.quit(hand, null));
     }
 }
\ No newline at end of file
@@ -207,4 +207,43 @@ class IntelTest {
         softly.assertThat(playerIntel.getCards()).isNotSameAs(player.getCards());
         softly.assertAll();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should expose possible actions both as enum set and as names")
+    void shouldExposePossibleActionsBothAsEnumSetAndAsNames() {
+        final Intel intel = Intel.ofHand(hand, Event.HAND_START);
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(intel.possibleActionSet()).containsExactly(PossibleAction.ACCEPT);
+        softly.assertThat(intel.possibleActions()).containsExactly("ACCEPT");
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should keep materialized views when rebuilt from its values")
+    void shouldKeepMaterializedViewsWhenRebuiltFromItsValues() {
+        when(p1.getUuid()).thenReturn(UUID.randomUUID());
+        when(p2.getUuid()).thenReturn(UUID.randomUUID());
+        when(p1.getUsername()).thenReturn("name1");
+        when(p2.getUsername()).thenReturn("name2");
+        when(p1.getCards()).thenReturn(new ArrayList<>(List.of(Card.of(Rank.TWO, Suit.CLUBS), Card.of(Rank.ACE, Suit.SPADES))));
+        final Hand hand = new Hand(p1, p2, Card.of(Rank.THREE, Suit.CLUBS));
+        hand.playFirstCard(p1, Card.of(Rank.TWO, Suit.CLUBS));
+        final Intel intel = hand.getLastIntel();
+
+        final Intel sut = new Intel(intel.timestamp(), intel.sequence(), intel.isGameDone(), intel.gameWinner().orElse(null),
+                intel.isMaoDeOnze(), intel.handPoints(), intel.pointsProposal().orElse(null), intel.roundWinnersUsernames(),
+                intel.roundWinnersUuid(), intel.roundsPlayed(), intel.vira(), intel.openCards(), intel.handWinner().orElse(null),
+                intel.currentPlayerUuid().orElse(null), intel.currentPlayerScore(), intel.currentPlayerUsername(),
+                intel.currentOpponentScore(), intel.currentOpponentUsername(), intel.cardToPlayAgainst().orElse(null),
+                intel.players(), intel.event().orElse(null), intel.eventPlayerUuid().orElse(null),
+                intel.eventPlayerUsername().orElse(null), intel.possibleActions());
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(sut).isEqualTo(intel);
+        softly.assertThat(sut.toString()).isEqualTo(intel.toString());
+        softly.assertThat(sut.players()).isEqualTo(intel.players());
+        softly.assertThat(sut.currentPlayerUuid()).isEqualTo(intel.currentPlayerUuid());
+        softly.assertThat(sut.eventPlayerUuid()).isEqualTo(intel.eventPlayerUuid());
+        softly.assertAll();
+    }
+}
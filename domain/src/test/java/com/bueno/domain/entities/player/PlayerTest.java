@@ -37,6 +37,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 @ExtendWith(MockitoExtension.class)
@@ -115,6 +116,15 @@ class PlayerTest {
         softly.assertAll();
     }
 
+    @Test
+    @DisplayName("Should not allow changing the cards through the returned list")
+    void shouldNotAllowChangingTheCardsThroughTheReturnedList() {
+        final Player sut = Player.ofBot("Bot test");
+        sut.setCards(cards);
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> sut.getCards().remove(c1));
+        assertThat(sut.play(c1)).isEqualTo(c1);
+    }
+
     @Test
     @DisplayName("Should throw if tries to play a card not owned")
     void shouldThrowIfTriesToPlayACardNotOwned() {
@@ -29,9 +29,12 @@ import com.bueno.domain.usecases.bot.handlers.MaoDeOnzeHandler;
 import com.bueno.domain.usecases.bot.handlers.RaiseHandler;
 import com.bueno.domain.usecases.bot.handlers.RaiseRequestHandler;
 import com.bueno.domain.usecases.bot.providers.BotProviders;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.repos.GameRepoDisposableImpl;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
 import com.bueno.domain.usecases.hand.HandResultRepository;
+import com.bueno.spi.service.BotServiceManager;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -68,6 +71,7 @@ class BotUseCaseTest {
     @BeforeEach
     void setUp() {
         UUID playerUUID = UUID.randomUUID();
+        lenient().when(game.getUuid()).thenReturn(UUID.randomUUID());
         lenient().when(game.currentHand()).thenReturn(hand);
         lenient().when(game.getIntel()).thenReturn(intel);
         lenient().when(hand.getCurrentPlayer()).thenReturn(player);
@@ -170,4 +174,24 @@ class BotUseCaseTest {
                 .as("It's false that no implementation is available")
                 .isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should share bot instances unless one is requested per game")
+    void shouldShareBotInstancesUnlessOneIsRequestedPerGame() {
+        assertThat(BotServiceManager.load("DummyBot")).isSameAs(BotServiceManager.load("DummyBot"));
+        assertThat(BotServiceManager.loadForGame("DummyBot")).isNotSameAs(BotServiceManager.load("DummyBot"));
+    }
+
+    @Test
+    @DisplayName("Should keep playing while it is bot turn until the game is over")
+    void shouldKeepPlayingWhileItIsBotTurnUntilTheGameIsOver() {
+        final GameRepository repo = new GameRepoDisposableImpl();
+        final Game botGame = new Game(Player.ofBot("DummyBot"), Player.ofBot("DummyBot"));
+        repo.save(GameConverter.toDto(botGame));
+
+        final Intel lastIntel = new BotUseCase(repo).playWhenNecessary(botGame);
+
+        assertThat(lastIntel.isGameDone()).isTrue();
+        assertThat(lastIntel.gameWinner()).isPresent();
+    }
+}
@@ -21,6 +21,7 @@
 package com.bueno.domain.usecases.bot;
 
 import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.bot.handlers.CardPlayingHandler;
 import com.bueno.domain.usecases.hand.PlayCardUseCase;
@@ -37,7 +38,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Set;
+import java.util.EnumSet;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -67,7 +68,7 @@ class CardPlayingHandlerTest {
     @Test
     @DisplayName("Should not handle if can not play")
     void shouldNotHandleIfCanNotPlay() {
-        when(intel.possibleActions()).thenReturn(Set.of("RAISE"));
+        when(intel.possibleActionSet()).thenReturn(EnumSet.of(PossibleAction.RAISE));
         assertThat(sut.shouldHandle(intel)).isFalse();
     }
 
@@ -21,6 +21,7 @@
 package com.bueno.domain.usecases.bot;
 
 import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.bot.handlers.RaiseRequestHandler;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
@@ -33,7 +34,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Set;
+import java.util.EnumSet;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -63,7 +64,7 @@ class RaiseRequestHandlerTest {
     @Test
     @DisplayName("Should quit if bot service implementation is answering to quit and quit is allowed")
     void shouldQuitIfBotServiceImplementationIsAnsweringToQuitAndQuitIsAllowed() {
-        when(intel.possibleActions()).thenReturn(Set.of("QUIT"));
+        when(intel.possibleActionSet()).thenReturn(EnumSet.of(PossibleAction.QUIT));
         when(botService.getRaiseResponse(any())).thenReturn(-1);
         sut.handle(intel, bot);
         verify(scoreUseCase, times(1)).quit(bot.getUuid());
@@ -74,7 +75,7 @@ class RaiseRequestHandlerTest {
     @Test
     @DisplayName("Should accept if bot service implementation is answering to accept and accept is allowed")
     void shouldAcceptIfBotServiceImplementationIsAnsweringToAcceptAndAcceptIsAllowed() {
-        when(intel.possibleActions()).thenReturn(Set.of("ACCEPT"));
+        when(intel.possibleActionSet()).thenReturn(EnumSet.of(PossibleAction.ACCEPT));
         when(botService.getRaiseResponse(any())).thenReturn(0);
         sut.handle(intel, bot);
         verify(scoreUseCase, times(0)).quit(bot.getUuid());
@@ -85,7 +86,7 @@ class RaiseRequestHandlerTest {
     @Test
     @DisplayName("Should raise if bot service implementation is answering to raise and raise is allowed")
     void shouldRaiseIfBotServiceImplementationIsAnsweringToRaiseAndRaiseIsAllowed() {
-        when(intel.possibleActions()).thenReturn(Set.of("RAISE"));
+        when(intel.possibleActionSet()).thenReturn(EnumSet.of(PossibleAction.RAISE));
         when(botService.getRaiseResponse(any())).thenReturn(1);
         sut.handle(intel, bot);
         verify(scoreUseCase, times(0)).quit(bot.getUuid());
@@ -120,7 +121,7 @@ class RaiseRequestHandlerTest {
     @Test
     @DisplayName("Should not handle if should play")
     void shouldNotHandleIfShouldPlay() {
-        when(intel.possibleActions()).thenReturn(Set.of("PLAY"));
+        when(intel.possibleActionSet()).thenReturn(EnumSet.of(PossibleAction.PLAY));
         assertThat(sut.shouldHandle(intel)).isFalse();
     }
 
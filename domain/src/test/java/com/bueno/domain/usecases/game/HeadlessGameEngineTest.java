@@ -0,0 +1,133 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.HandPoints;
+import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.impl.dummybot.DummyBot;
+import com.bueno.spi.service.BotServiceProvider;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HeadlessGameEngineTest {
+
+    @Mock private BotServiceProvider raisingBot;
+
+    private Player player1;
+    private Player player2;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        player1 = Player.ofBot("DummyBot");
+        player2 = Player.ofBot("DummyBot");
+        game = new Game(player1, player2);
+    }
+
+    @Test
+    @DisplayName("Should not accept null bots")
+    void shouldNotAcceptNullBots() {
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThatThrownBy(() -> new HeadlessGameEngine(null, new DummyBot()))
+                .isInstanceOf(NullPointerException.class);
+        softly.assertThatThrownBy(() -> new HeadlessGameEngine(new DummyBot(), null))
+                .isInstanceOf(NullPointerException.class);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should not play null game")
+    void shouldNotPlayNullGame() {
+        final HeadlessGameEngine sut = new HeadlessGameEngine(new DummyBot(), new DummyBot());
+        assertThatNullPointerException().isThrownBy(() -> sut.play(null));
+    }
+
+    @Test
+    @DisplayName("Should play game until there is a winner")
+    void shouldPlayGameUntilThereIsAWinner() {
+        final HeadlessGameEngine sut = new HeadlessGameEngine(new DummyBot(), new DummyBot());
+        final Game result = sut.play(game);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(result.isDone()).isTrue();
+        softly.assertThat(result.getWinner()).isPresent();
+        softly.assertThat(result.getWinner().orElseThrow().getScore()).isEqualTo(Player.MAX_SCORE);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should play card of the current player in a single turn")
+    void shouldPlayCardOfTheCurrentPlayerInASingleTurn() {
+        final HeadlessGameEngine sut = new HeadlessGameEngine(new DummyBot(), new DummyBot());
+        final Hand hand = game.currentHand();
+        final Player currentPlayer = hand.getCurrentPlayer();
+
+        sut.playTurn(game);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(hand.getCardToPlayAgainst()).isPresent();
+        softly.assertThat(currentPlayer.getCards()).hasSize(2);
+        softly.assertThat(hand.getCurrentPlayer()).isEqualTo(hand.getOpponentOf(currentPlayer));
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should raise bet if bot decides to raise")
+    void shouldRaiseBetIfBotDecidesToRaise() {
+        when(raisingBot.decideIfRaises(any())).thenReturn(true);
+        final HeadlessGameEngine sut = new HeadlessGameEngine(raisingBot, raisingBot);
+        final Hand hand = game.currentHand();
+
+        sut.playTurn(game);
+
+        assertThat(hand.getPointsProposal()).isEqualTo(HandPoints.THREE);
+    }
+
+    @Test
+    @DisplayName("Should accept bet if bot answers with raise when raising is not possible")
+    void shouldAcceptBetIfBotAnswersWithRaiseWhenRaisingIsNotPossible() {
+        when(raisingBot.getRaiseResponse(any())).thenReturn(1);
+        final HeadlessGameEngine sut = new HeadlessGameEngine(raisingBot, raisingBot);
+        final Hand hand = game.currentHand();
+        for (int i = 0; i < 4; i++) hand.raise(hand.getCurrentPlayer());
+
+        sut.playTurn(game);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(hand.getPoints()).isEqualTo(HandPoints.TWELVE);
+        softly.assertThat(hand.getPossibleActions()).contains(PossibleAction.PLAY);
+        softly.assertAll();
+    }
+}
@@ -20,6 +20,8 @@
 
 package com.bueno.domain.usecases.game;
 
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.Deck;
 import com.bueno.domain.usecases.game.dtos.CreateForBotsDto;
 import com.bueno.domain.usecases.game.repos.GameRepoDisposableImpl;
 import com.bueno.domain.usecases.game.repos.GameRepository;
@@ -29,9 +31,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ExtendWith(MockitoExtension.class)
 class PlayWithBotsUseCaseTest {
@@ -78,4 +85,78 @@ class PlayWithBotsUseCaseTest {
         softly.assertThat(response.name()).isNotNull();
         softly.assertAll();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should play with bots in headless mode if preconditions are met")
+    void shouldPlayWithBotsInHeadlessModeIfPreconditionsAreMet() {
+        final var uuidA = UUID.randomUUID();
+        final var uuidB = UUID.randomUUID();
+        final var requestModel = new CreateForBotsDto(uuidA, "DummyBot", uuidB, "DummyBot");
+        final var sut = PlayWithBotsUseCase.headless();
+        final var response = sut.playWithBots(requestModel);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(response.uuid()).isIn(uuidA, uuidB);
+        softly.assertThat(response.name()).isEqualTo("DummyBot");
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should throw in headless mode if bot service is not available")
+    void shouldThrowInHeadlessModeIfBotServiceIsNotAvailable() {
+        final var requestModel = new CreateForBotsDto(UUID.randomUUID(), "DummyBot", UUID.randomUUID(), "NoSuchBot");
+        final var sut = PlayWithBotsUseCase.headless();
+        assertThatThrownBy(() -> sut.playWithBots(requestModel)).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("Should play each deal twice with swapped seats in duplicate deal mode")
+    void shouldPlayEachDealTwiceWithSwappedSeatsInDuplicateDealMode() {
+        final var uuidA = UUID.randomUUID();
+        final var uuidB = UUID.randomUUID();
+        final var requestModel = new CreateForBotsDto(uuidA, "DummyBot", uuidB, "DummyBot");
+        final var sut = PlayWithBotsUseCase.headless();
+        final var responses = sut.playDuplicateDeal(requestModel, 42L);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(responses).hasSize(2);
+        softly.assertThat(responses).allSatisfy(response -> assertThat(response.uuid()).isIn(uuidA, uuidB));
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should deal the same cards to both games of a duplicate deal")
+    void shouldDealTheSameCardsToBothGamesOfADuplicateDeal() {
+        final var requestModel = new CreateForBotsDto(UUID.randomUUID(), "DummyBot", UUID.randomUUID(), "DummyBot");
+        final List<List<Card>> deals = new ArrayList<>();
+        final var sut = PlayWithBotsUseCase.headless();
+
+        sut.playDuplicateDeal(requestModel, () -> {
+            final List<Card> dealt = new ArrayList<>();
+            deals.add(dealt);
+            return new Deck(42L) {
+                @Override
+                public Card takeOne() {
+                    final Card card = super.takeOne();
+                    dealt.add(card);
+                    return card;
+                }
+            };
+        });
+
+        final int cardsInBothGames = Math.min(deals.get(0).size(), deals.get(1).size());
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(deals).hasSize(2);
+        softly.assertThat(cardsInBothGames).isPositive();
+        softly.assertThat(deals.get(0).subList(0, cardsInBothGames)).isEqualTo(deals.get(1).subList(0, cardsInBothGames));
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should not play seeded games if not in headless mode")
+    void shouldNotPlaySeededGamesIfNotInHeadlessMode() {
+        final var requestModel = new CreateForBotsDto(UUID.randomUUID(), "DummyBot", UUID.randomUUID(), "DummyBot");
+        final var sut = new PlayWithBotsUseCase(new GameRepoDisposableImpl());
+        assertThatThrownBy(() -> sut.playWithBots(requestModel, 42L)).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
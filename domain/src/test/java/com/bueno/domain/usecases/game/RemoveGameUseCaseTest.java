@@ -0,0 +1,136 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.game.repos.GameResultRepository;
+import com.bueno.domain.usecases.game.repos.GameUnitOfWork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RemoveGameUseCaseTest {
+
+    @Mock private GameRepository gameRepo;
+    @Mock private GameResultRepository gameResultRepo;
+
+    @InjectMocks
+    private RemoveGameUseCase sut;
+
+    private Player user;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        user = Player.of(UUID.randomUUID(), "User");
+        game = new Game(user, Player.ofBot("DummyBot"));
+    }
+
+    @Test
+    @DisplayName("Should remove inactive games at once and save their results")
+    void shouldRemoveInactiveGamesAtOnceAndSaveTheirResults() {
+        final InactiveGameDto inactiveGame = InactiveGameDto.of(GameConverter.toDto(game));
+        when(gameRepo.deleteAllInactive(List.of(inactiveGame))).thenReturn(List.of(inactiveGame));
+
+        assertThat(sut.byInactivity(List.of(inactiveGame))).containsExactly(inactiveGame.inactivePlayerUuid());
+        verify(gameRepo, never()).findByPlayerUuid(any());
+        verify(gameResultRepo).save(argThat(result -> result.gameUuid().equals(game.getUuid())));
+    }
+
+    @Test
+    @DisplayName("Should not save result of game kept by the repository")
+    void shouldNotSaveResultOfGameKeptByTheRepository() {
+        final InactiveGameDto inactiveGame = InactiveGameDto.of(GameConverter.toDto(game));
+        when(gameRepo.deleteAllInactive(List.of(inactiveGame))).thenReturn(List.of());
+
+        assertThat(sut.byInactivity(List.of(inactiveGame))).isEmpty();
+        verify(gameResultRepo, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should hold the lock of inactive games while removing them")
+    void shouldHoldTheLockOfInactiveGamesWhileRemovingThem() {
+        final InactiveGameDto inactiveGame = InactiveGameDto.of(GameConverter.toDto(game));
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final AtomicReference<Future<?>> action = new AtomicReference<>();
+        when(gameRepo.deleteAllInactive(List.of(inactiveGame))).thenAnswer(invocation -> {
+            action.set(executor.submit(() -> {
+                try (GameUnitOfWork unitOfWork = GameUnitOfWork.begin(gameRepo)) {
+                    unitOfWork.attach(game);
+                }
+            }));
+            assertThatExceptionOfType(TimeoutException.class)
+                    .isThrownBy(() -> action.get().get(100, TimeUnit.MILLISECONDS));
+            return List.of(inactiveGame);
+        });
+        try {
+            sut.byInactivity(List.of(inactiveGame));
+            assertThatNoException().isThrownBy(() -> action.get().get(1, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should remove game of quitting user and save its result")
+    void shouldRemoveGameOfQuittingUserAndSaveItsResult() {
+        when(gameRepo.findByPlayerUuid(user.getUuid())).thenReturn(Optional.of(GameConverter.toDto(game)));
+
+        sut.byUserUuid(user.getUuid());
+        verify(gameRepo).delete(game.getUuid());
+        verify(gameResultRepo).save(argThat(result -> !result.winnerUuid().equals(user.getUuid())));
+    }
+
+    @Test
+    @DisplayName("Should throw if quitting user has no active game")
+    void shouldThrowIfQuittingUserHasNoActiveGame() {
+        when(gameRepo.findByPlayerUuid(user.getUuid())).thenReturn(Optional.empty());
+
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> sut.byUserUuid(user.getUuid()));
+        verify(gameRepo, never()).delete(any());
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.converter;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameConverterTest {
+
+    private GameDto stored;
+
+    @BeforeEach
+    void setUp() {
+        final Game game = new Game(Player.of(UUID.randomUUID(), "User"), Player.ofBot("DummyBot"));
+        final Hand finishedHand = game.currentHand();
+        finishedHand.raise(finishedHand.getCurrentPlayer());
+        finishedHand.quit(finishedHand.getCurrentPlayer());
+        game.updateScores();
+        game.prepareNewHand();
+        stored = GameConverter.toDto(game);
+    }
+
+    @Test
+    @DisplayName("Should give each game loaded from the same dto its own finished hands")
+    void shouldGiveEachGameLoadedFromTheSameDtoItsOwnFinishedHands() {
+        final Game first = GameConverter.fromDto(stored);
+        final Game second = GameConverter.fromDto(stored);
+
+        assertThat(first.getHands().get(0)).isNotSameAs(second.getHands().get(0));
+        final Player firstToPlay = second.getHands().get(0).getFirstToPlay();
+        assertThat(firstToPlay).isSameAs(firstToPlay.equals(second.getPlayer1()) ? second.getPlayer1() : second.getPlayer2());
+    }
+
+    @Test
+    @DisplayName("Should load finished hands as they were stored")
+    void shouldLoadFinishedHandsAsTheyWereStored() {
+        GameConverter.fromDto(stored);
+        assertThat(GameConverter.toDto(GameConverter.fromDto(stored))).isEqualTo(stored);
+    }
+}
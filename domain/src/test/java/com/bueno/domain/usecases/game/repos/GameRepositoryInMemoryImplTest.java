@@ -0,0 +1,158 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.repos;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
+import com.bueno.domain.usecases.utils.exceptions.ConcurrentGameUpdateException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class GameRepositoryInMemoryImplTest {
+
+    private GameRepositoryInMemoryImpl sut;
+    private Player user;
+    private GameDto game;
+
+    @BeforeEach
+    void setUp() {
+        sut = new GameRepositoryInMemoryImpl();
+        user = Player.of(UUID.randomUUID(), "User");
+        game = GameConverter.toDto(new Game(user, Player.ofBot("DummyBot")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.delete(game.gameUuid());
+    }
+
+    @Test
+    @DisplayName("Should find saved game by any of its players")
+    void shouldFindSavedGameByAnyOfItsPlayers() {
+        sut.save(game);
+        assertThat(sut.findByPlayerUuid(user.getUuid())).contains(game);
+        assertThat(sut.findByPlayerUuid(game.player2().uuid())).contains(game);
+    }
+
+    @Test
+    @DisplayName("Should not find deleted game")
+    void shouldNotFindDeletedGame() {
+        sut.save(game);
+        sut.delete(game.gameUuid());
+        assertThat(sut.findByPlayerUuid(user.getUuid())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should delete all given games")
+    void shouldDeleteAllGivenGames() {
+        final GameDto otherGame = GameConverter.toDto(new Game(Player.of(UUID.randomUUID(), "Other"), Player.ofBot("DummyBot")));
+        sut.save(game);
+        sut.save(otherGame);
+        sut.deleteAll(List.of(game.gameUuid(), otherGame.gameUuid()));
+        assertThat(sut.findByPlayerUuid(user.getUuid())).isEmpty();
+        assertThat(sut.findByPlayerUuid(otherGame.player1().uuid())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should delete only inactive games not updated since")
+    void shouldDeleteOnlyInactiveGamesNotUpdatedSince() {
+        final GameDto otherGame = GameConverter.toDto(new Game(Player.of(UUID.randomUUID(), "Other"), Player.ofBot("DummyBot")));
+        sut.save(game);
+        sut.save(otherGame);
+        final InactiveGameDto inactiveGame = InactiveGameDto.of(game);
+        final InactiveGameDto updatedGame = InactiveGameDto.of(otherGame);
+        sut.update(withVersion(otherGame, 1));
+
+        assertThat(sut.deleteAllInactive(List.of(inactiveGame, updatedGame))).containsExactly(inactiveGame);
+        assertThat(sut.findByPlayerUuid(user.getUuid())).isEmpty();
+        assertThat(sut.findByPlayerUuid(otherGame.player1().uuid())).isPresent();
+        sut.delete(otherGame.gameUuid());
+    }
+
+    @Test
+    @DisplayName("Should not update game that was not saved")
+    void shouldNotUpdateGameThatWasNotSaved() {
+        sut.update(game);
+        assertThat(sut.findByPlayerUuid(user.getUuid())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not update game with outdated version")
+    void shouldNotUpdateGameWithOutdatedVersion() {
+        sut.save(game);
+        final GameDto updated = withVersion(game, 1);
+        sut.update(updated);
+        assertThatExceptionOfType(ConcurrentGameUpdateException.class).isThrownBy(() -> sut.update(updated));
+        assertThat(sut.findByPlayerUuid(user.getUuid())).contains(updated);
+    }
+
+    @Test
+    @DisplayName("Should find game inactive only after the given minutes")
+    void shouldFindGameInactiveOnlyAfterTheGivenMinutes() {
+        sut.save(game);
+        assertThat(sut.findAllInactiveAfter(0)).extracting(InactiveGameDto::gameUuid).contains(game.gameUuid());
+        assertThat(sut.findAllInactiveAfter(1)).extracting(InactiveGameDto::gameUuid).doesNotContain(game.gameUuid());
+    }
+
+    @Test
+    @DisplayName("Should keep every game when saved and deleted concurrently")
+    void shouldKeepEveryGameWhenSavedAndDeletedConcurrently() throws Exception {
+        final List<GameDto> games = IntStream.range(0, 200)
+                .mapToObj(i -> GameConverter.toDto(new Game(Player.of(UUID.randomUUID(), "User" + i), Player.ofBot("DummyBot"))))
+                .toList();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> saves = games.stream()
+                    .<Future<?>>map(each -> executor.submit(() -> sut.save(each)))
+                    .toList();
+            for (Future<?> save : saves) save.get();
+            games.forEach(each -> assertThat(sut.findByPlayerUuid(each.player1().uuid())).contains(each));
+
+            final List<Future<?>> deletes = games.stream()
+                    .<Future<?>>map(each -> executor.submit(() -> sut.delete(each.gameUuid())))
+                    .toList();
+            for (Future<?> delete : deletes) delete.get();
+            games.forEach(each -> assertThat(sut.findByPlayerUuid(each.player1().uuid())).isEmpty());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static GameDto withVersion(GameDto game, long version) {
+        return new GameDto(game.gameUuid(), game.timestamp(), game.player1(), game.player2(), game.firstToPlay(),
+                game.lastToPlay(), game.hands(), version);
+    }
+}
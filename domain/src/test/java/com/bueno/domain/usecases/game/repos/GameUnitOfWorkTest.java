@@ -0,0 +1,203 @@
+/*
+ *  Copyright (C) 2021 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.domain.usecases.game.repos;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.utils.exceptions.ConcurrentGameUpdateException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameUnitOfWorkTest {
+
+    @Mock private GameRepository gameRepo;
+
+    private Player user;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        user = Player.of(UUID.randomUUID(), "User");
+        game = new Game(user, Player.ofBot("DummyBot"));
+    }
+
+    @Test
+    @DisplayName("Should not accept null repository")
+    void shouldNotAcceptNullRepository() {
+        assertThatNullPointerException().isThrownBy(() -> GameUnitOfWork.begin(null));
+    }
+
+    @Test
+    @DisplayName("Should load game only once per unit of work")
+    void shouldLoadGameOnlyOncePerUnitOfWork() {
+        when(gameRepo.findByPlayerUuid(user.getUuid())).thenReturn(Optional.of(GameConverter.toDto(game)));
+        try (GameUnitOfWork unitOfWork = GameUnitOfWork.begin(gameRepo)) {
+            final Game loaded = unitOfWork.findByPlayerUuid(user.getUuid()).orElseThrow();
+            assertThat(unitOfWork.findByPlayerUuid(user.getUuid())).containsSame(loaded);
+        }
+        verify(gameRepo, times(1)).findByPlayerUuid(user.getUuid());
+    }
+
+    @Test
+    @DisplayName("Should share game with nested unit of work using the same repository")
+    void shouldShareGameWithNestedUnitOfWorkUsingTheSameRepository() {
+        try (GameUnitOfWork outer = GameUnitOfWork.begin(gameRepo)) {
+            outer.attach(game);
+            try (GameUnitOfWork inner = GameUnitOfWork.begin(gameRepo)) {
+                assertThat(inner.findByPlayerUuid(user.getUuid())).containsSame(game);
+                inner.update(game);
+                inner.commit();
+            }
+            verify(gameRepo, never()).update(any());
+            outer.commit();
+        }
+        verify(gameRepo, never()).findByPlayerUuid(any());
+        verify(gameRepo, times(1)).update(any());
+    }
+
+    @Test
+    @DisplayName("Should not write game if unit of work is closed without commit")
+    void shouldNotWriteGameIfUnitOfWorkIsClosedWithoutCommit() {
+        try (GameUnitOfWork unitOfWork = GameUnitOfWork.begin(gameRepo)) {
+            unitOfWork.update(game);
+        }
+        verify(gameRepo, never()).update(any());
+    }
+
+    @Test
+    @DisplayName("Should write game with next version on commit")
+    void shouldWriteGameWithNextVersionOnCommit() {
+        try (GameUnitOfWork unitOfWork = GameUnitOfWork.begin(gameRepo)) {
+            unitOfWork.update(game);
+            unitOfWork.commit();
+        }
+        verify(gameRepo).update(argThat(dto -> dto.version() == 1));
+        assertThat(game.getVersion()).isOne();
+    }
+
+    @Test
+    @DisplayName("Should reuse the stored dtos of finished hands on commit")
+    void shouldReuseTheStoredDtosOfFinishedHandsOnCommit() {
+        final Hand finishedHand = game.currentHand();
+        finishedHand.raise(finishedHand.getCurrentPlayer());
+        finishedHand.quit(finishedHand.getCurrentPlayer());
+        game.updateScores();
+        game.prepareNewHand();
+        final GameDto stored = GameConverter.toDto(game);
+        when(gameRepo.findByPlayerUuid(user.getUuid())).thenReturn(Optional.of(stored));
+
+        try (GameUnitOfWork unitOfWork = GameUnitOfWork.begin(gameRepo)) {
+            final Game loaded = unitOfWork.findByPlayerUuid(user.getUuid()).orElseThrow();
+            unitOfWork.update(loaded);
+            unitOfWork.commit();
+        }
+        verify(gameRepo).update(argThat(dto -> dto.hands().get(0) == stored.hands().get(0)
+                && dto.hands().get(1) != stored.hands().get(1)));
+    }
+
+    @Test
+    @DisplayName("Should keep game version if commit fails")
+    void shouldKeepGameVersionIfCommitFails() {
+        doThrow(new ConcurrentGameUpdateException("Conflict")).when(gameRepo).update(any());
+        try (GameUnitOfWork unitOfWork = GameUnitOfWork.begin(gameRepo)) {
+            unitOfWork.update(game);
+            assertThatExceptionOfType(ConcurrentGameUpdateException.class).isThrownBy(unitOfWork::commit);
+        }
+        assertThat(game.getVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should make units of work on the same game wait for each other")
+    void shouldMakeUnitsOfWorkOnTheSameGameWaitForEachOther() throws Exception {
+        final CountDownLatch otherTried = new CountDownLatch(1);
+        final AtomicBoolean otherEntered = new AtomicBoolean();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (GameUnitOfWork unitOfWork = GameUnitOfWork.begin(gameRepo)) {
+            unitOfWork.attach(game);
+            final Future<?> other = executor.submit(() -> {
+                try (GameUnitOfWork otherUnit = GameUnitOfWork.begin(gameRepo)) {
+                    otherTried.countDown();
+                    otherUnit.attach(game);
+                    otherEntered.set(true);
+                }
+            });
+            otherTried.await();
+            Thread.sleep(100);
+            assertThat(otherEntered).isFalse();
+            unitOfWork.close();
+            other.get(1, TimeUnit.SECONDS);
+            assertThat(otherEntered).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not write game that was not updated")
+    void shouldNotWriteGameThatWasNotUpdated() {
+        try (GameUnitOfWork unitOfWork = GameUnitOfWork.begin(gameRepo)) {
+            unitOfWork.attach(game);
+            unitOfWork.commit();
+        }
+        verify(gameRepo, never()).update(any());
+    }
+
+    @Test
+    @DisplayName("Should not work on a second game")
+    void shouldNotWorkOnASecondGame() {
+        final Game otherGame = new Game(Player.of(UUID.randomUUID(), "Other"), Player.ofBot("DummyBot"));
+        try (GameUnitOfWork unitOfWork = GameUnitOfWork.begin(gameRepo)) {
+            unitOfWork.attach(game);
+            assertThatIllegalStateException().isThrownBy(() -> unitOfWork.attach(otherGame));
+        }
+    }
+
+    @Test
+    @DisplayName("Should not write removed game on commit")
+    void shouldNotWriteRemovedGameOnCommit() {
+        try (GameUnitOfWork unitOfWork = GameUnitOfWork.begin(gameRepo)) {
+            unitOfWork.update(game);
+            unitOfWork.remove(game);
+            unitOfWork.commit();
+        }
+        verify(gameRepo).delete(game.getUuid());
+        verify(gameRepo, never()).update(any());
+    }
+}
@@ -26,9 +26,11 @@ import com.bueno.domain.entities.deck.Rank;
 import com.bueno.domain.entities.deck.Suit;
 import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.BotUseCase;
 import com.bueno.domain.usecases.game.converter.GameConverter;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.repos.GameRepositoryInMemoryImpl;
+import com.bueno.domain.usecases.game.repos.GameUnitOfWork;
 import com.bueno.domain.usecases.hand.dtos.PlayCardDto;
 import com.bueno.domain.usecases.intel.converters.CardConverter;
 import com.bueno.domain.usecases.intel.dtos.CardDto;
@@ -49,8 +51,8 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
-import static org.mockito.Mockito.lenient;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class PlayCardUseCaseTest {
@@ -60,6 +62,7 @@ class PlayCardUseCaseTest {
     @Mock private Player player1;
     @Mock private Player player2;
     @Mock private Deck deck;
+    @Mock private BotUseCase botUseCase;
     private Game game;
     private GameRepository repo;
 
@@ -197,4 +200,38 @@ class PlayCardUseCaseTest {
 
         assertThatIllegalArgumentException().isThrownBy(() -> sut.discard(new PlayCardDto(p1Uuid, card1)));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should keep the player action if the bot fails afterwards")
+    void shouldKeepThePlayerActionIfTheBotFailsAfterwards() {
+        final Card card = Card.of(Rank.THREE, Suit.CLUBS);
+        when(player1.getCards()).thenReturn(new ArrayList<>(List.of(card)));
+        when(botUseCase.playWhenNecessary(any())).thenThrow(new IllegalStateException("Bot failure"));
+        repo.save(GameConverter.toDto(game));
+
+        final var sutWithBot = new PlayCardUseCase(repo, null, null, botUseCase);
+        assertThatIllegalStateException().isThrownBy(() -> sutWithBot.playCard(new PlayCardDto(p1Uuid, CardConverter.toDto(card))));
+
+        final Game stored = repo.findByPlayerUuid(p1Uuid).map(GameConverter::fromDto).orElseThrow();
+        assertThat(stored.currentHand().getCardToPlayAgainst()).contains(card);
+    }
+
+    @Test
+    @DisplayName("Should write the game once when a bot plays after the player")
+    void shouldWriteTheGameOnceWhenABotPlaysAfterThePlayer() {
+        final Card card = Card.of(Rank.THREE, Suit.CLUBS);
+        when(player1.getCards()).thenReturn(new ArrayList<>(List.of(card)));
+        final GameRepository countingRepo = spy(repo);
+        when(botUseCase.playWhenNecessary(any())).thenAnswer(invocation -> {
+            try (GameUnitOfWork unitOfWork = GameUnitOfWork.begin(countingRepo)) {
+                unitOfWork.update(invocation.getArgument(0));
+                unitOfWork.commit();
+            }
+            return null;
+        });
+        countingRepo.save(GameConverter.toDto(game));
+
+        new PlayCardUseCase(countingRepo, null, null, botUseCase).playCard(new PlayCardDto(p1Uuid, CardConverter.toDto(card)));
+        verify(countingRepo, times(1)).update(any());
+    }
+}
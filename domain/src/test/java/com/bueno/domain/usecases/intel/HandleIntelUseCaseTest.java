@@ -127,6 +127,7 @@ class HandleIntelUseCaseTest {
     void shouldCorrectlyGetIntelHistoryIfInvariantsAreMet() {
         repo.save(GameConverter.toDto(game));
         final Instant initialTimestamp = IntelConverter.toDto(game.getIntel()).timestamp();
+        game.setVersion(game.getVersion() + 1);
         repo.update(GameConverter.toDto(game));
 
         final var obtained = sut.findIntelSince(p1Uuid, initialTimestamp);
@@ -136,4 +137,16 @@ class HandleIntelUseCaseTest {
 
         assertThat(obtained.intelSinceBaseTimestamp()).isEqualTo(expected);
     }
+
+    @Test
+    @DisplayName("Should correctly get intel after sequence if invariants are met")
+    void shouldCorrectlyGetIntelAfterSequenceIfInvariantsAreMet() {
+        repo.save(GameConverter.toDto(game));
+        final long initialSequence = game.getIntel().sequence();
+
+        final var obtained = sut.findIntelAfter(p1Uuid, initialSequence - 1);
+
+        assertThat(obtained.baseSequence()).isEqualTo(initialSequence - 1);
+        assertThat(obtained.intelSinceBaseTimestamp()).containsExactly(IntelConverter.toDto(game.getIntel()));
+    }
 }
\ No newline at end of file
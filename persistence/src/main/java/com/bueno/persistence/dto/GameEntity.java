@@ -21,14 +21,20 @@
 package com.bueno.persistence.dto;
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import javax.persistence.Id;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +45,10 @@ import java.util.UUID;
 @NoArgsConstructor
 @Builder
 @Document
+@CompoundIndexes({
+        @CompoundIndex(name = "player1_timestamp", def = "{'player1': 1, 'timestamp': -1}"),
+        @CompoundIndex(name = "player2_timestamp", def = "{'player2': 1, 'timestamp': -1}")
+})
 public class GameEntity {
     @Id
     private UUID id;
@@ -48,6 +58,14 @@ public class GameEntity {
     private UUID firstToPlay;
     private UUID lastToPlay;
     private List<HandEntity> hands;
+    //Embedded so that a game is read in a single round trip. Null for games stored before players were embedded.
+    private List<PlayerEntity> players;
+    //Timestamp of the last intel and the player expected to act, kept apart so inactivity sweeps need no hands.
+    @Indexed
+    private Instant lastActivity;
+    private UUID inactivePlayer;
+    //Null for games stored before versioning, which are read as version zero.
+    private Long version;
 
     public static GameEntity from(GameDto dto){
         return GameEntity.builder()
@@ -58,9 +76,31 @@ public class GameEntity {
                 .firstToPlay(dto.firstToPlay().uuid())
                 .lastToPlay(dto.lastToPlay().uuid())
                 .hands(dto.hands().stream().map(HandEntity::from).toList())
+                .players(List.of(PlayerEntity.from(dto.player1()), PlayerEntity.from(dto.player2())))
+                .lastActivity(lastActivityOf(dto))
+                .inactivePlayer(inactivePlayerOf(dto))
+                .version(dto.version())
                 .build();
     }
 
+    public static Instant lastActivityOf(GameDto dto){
+        if (dto.hands().isEmpty()) return null;
+        final HandDto hand = dto.hands().get(dto.hands().size() - 1);
+        if (hand.history().isEmpty()) return null;
+        return hand.history().get(hand.history().size() - 1).timestamp();
+    }
+
+    public static UUID inactivePlayerOf(GameDto dto){
+        if (dto.hands().isEmpty()) return null;
+        final PlayerDto currentPlayer = dto.hands().get(dto.hands().size() - 1).currentPlayer();
+        return currentPlayer != null ? currentPlayer.uuid() : dto.player1().uuid();
+    }
+
+    public InactiveGameDto toInactiveGameDto(){
+        return new InactiveGameDto(id, timestamp, player1, player2, inactivePlayer != null ? inactivePlayer : player1,
+                version != null ? version : 0);
+    }
+
     public GameDto toDto(Map<UUID, PlayerDto> players){
         return new GameDto(
                 id,
@@ -69,7 +109,8 @@ public class GameEntity {
                 players.get(player2),
                 players.get(firstToPlay),
                 players.get(lastToPlay),
-                hands.stream().map(hand -> hand.toDto(players)).toList()
+                hands.stream().map(hand -> hand.toDto(players)).toList(),
+                version != null ? version : 0
         );
     }
 }
@@ -25,11 +25,9 @@ import com.bueno.domain.usecases.game.dtos.GameResultDto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
-import javax.persistence.Column;
-import javax.persistence.Entity;
-import javax.persistence.Id;
-import javax.persistence.Table;
+import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -38,7 +36,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @Entity
 @Table(name = "GAME_RESULT")
-public class GameResultEntity {
+public class GameResultEntity implements Persistable<UUID> {
     @Id
     @Column(name = "GAME_ID")
     private UUID gameUuid;
@@ -56,11 +54,30 @@ public class GameResultEntity {
     private UUID player2Uuid;
     @Column(name = "PLAYER2_SCORE")
     private int player2Score;
+    //The id is assigned by the game, so without this flag saving a new result would first look it up to merge it.
+    @Transient
+    private boolean newResult = true;
 
 
     public static GameResultEntity from(GameResultDto dto){
         return new GameResultEntity(dto.gameUuid(), dto.gameStart(), dto.gameEnd(),
-                dto.winnerUuid(), dto.player1Uuid(), dto.player1Score(), dto.player2Uuid(), dto.player2Score()
+                dto.winnerUuid(), dto.player1Uuid(), dto.player1Score(), dto.player2Uuid(), dto.player2Score(), true
         );
     }
+
+    @Override
+    public UUID getId() {
+        return gameUuid;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newResult;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newResult = false;
+    }
 }
@@ -57,10 +57,16 @@ public class HandEntity {
     private String state;
 
     public static HandEntity from(HandDto dto){
+        return from(dto, 0);
+    }
+
+    //Converts the hand with only the intel recorded from the given index on, for appending to a stored history.
+    public static HandEntity from(HandDto dto, int firstIntel){
         final Function<List<CardDto>, List<String>> mapToString = dtos -> dtos.stream().map(CardDto::toString).toList();
         final Function<PlayerDto, UUID> playerUuidOrNull = playerDto -> playerDto != null ? playerDto.uuid() : null;
         final List<RoundEntity> roundEntities = dto.roundsPlayed().stream().map(RoundEntity::from).toList();
-        final List<IntelEntity> history = dto.history().stream().map(IntelEntity::from).toList();
+        final List<IntelEntity> history = dto.history().subList(firstIntel, dto.history().size()).stream()
+                .map(IntelEntity::from).toList();
         return HandEntity.builder()
                 .vira(dto.vira().toString())
                 .dealtCard(mapToString.apply(dto.dealtCards()))
@@ -38,7 +38,10 @@ import java.util.UUID;
 @Table(name = "HAND_RESULT")
 public class HandResultEntity {
 
-    @Id @GeneratedValue(strategy= GenerationType.IDENTITY)
+    //Sequence ids are allocated in blocks, so inserts can be batched; identity columns make Hibernate insert one by one.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hand_result_sequence")
+    @SequenceGenerator(name = "hand_result_sequence", sequenceName = "HAND_RESULT_SEQ", allocationSize = 50)
     private long id;
 
     @Column(name = "HAND_TYPE", length = 9)
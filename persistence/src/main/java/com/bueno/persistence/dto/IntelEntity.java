@@ -40,6 +40,7 @@ import java.util.function.Function;
 @Builder
 public class IntelEntity {
     private Instant timestamp;
+    private Long sequence;
     private boolean isGameDone;
     private UUID gameWinner;
     private boolean isMaoDeOnze;
@@ -71,6 +72,7 @@ public class IntelEntity {
 
         return IntelEntity.builder()
                 .timestamp(dto.timestamp())
+                .sequence(dto.sequence())
                 .isGameDone(dto.isGameDone())
                 .gameWinner(dto.gameWinner())
                 .isMaoDeOnze(dto.isMaoDeOnze())
@@ -101,6 +103,7 @@ public class IntelEntity {
                 new CardDto(card.substring(0, 1), card.substring(1, 2)) : null;
         return new IntelDto(
                 timestamp,
+                sequence != null ? sequence : -1,
                 isGameDone,
                 gameWinner,
                 isMaoDeOnze,
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.game.dtos.GameResultDto;
+import com.bueno.domain.usecases.game.dtos.GameResultUsernamesDto;
+import com.bueno.domain.usecases.game.dtos.PlayerWinsDto;
+import com.bueno.domain.usecases.game.repos.GameResultRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+//Game results are queued and written in batches off the request thread. Queries write what is queued first, so they
+//still see every finished game.
+@Primary
+@Repository
+public class AsyncGameResultRepository implements GameResultRepository, DisposableBean {
+
+    private final GameResultRepository delegate;
+    private final ResultSink<GameResultDto> sink;
+
+    public AsyncGameResultRepository(GameResultRepositoryImpl delegate,
+                                     @Value("${application.results.queue-capacity:10000}") int capacity,
+                                     @Value("${application.results.batch-size:50}") int batchSize) {
+        this.delegate = Objects.requireNonNull(delegate, "Game result repository must not be null!");
+        this.sink = new ResultSink<>("game", capacity, batchSize, delegate::saveAll);
+    }
+
+    @Override
+    public void save(GameResultDto gameResultDto) {
+        sink.add(gameResultDto);
+    }
+
+    @Override
+    public void saveAll(Collection<GameResultDto> gameResultDtos) {
+        gameResultDtos.forEach(sink::add);
+    }
+
+    @Override
+    public List<PlayerWinsDto> findTopWinners(Integer maxNumberOfUsers) {
+        sink.flush();
+        return delegate.findTopWinners(maxNumberOfUsers);
+    }
+
+    @Override
+    public List<GameResultUsernamesDto> findAllByUserUuid(UUID uuid) {
+        sink.flush();
+        return delegate.findAllByUserUuid(uuid);
+    }
+
+    public ResultSink.Stats stats() {
+        return sink.stats();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        sink.close();
+    }
+}
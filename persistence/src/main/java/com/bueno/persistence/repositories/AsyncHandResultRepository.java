@@ -0,0 +1,65 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.hand.HandResultRepository;
+import com.bueno.domain.usecases.hand.dtos.HandResultDto;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Objects;
+
+//Hand results are write-only analytics data, so they are queued and written in batches off the request thread.
+@Primary
+@Repository
+public class AsyncHandResultRepository implements HandResultRepository, DisposableBean {
+
+    private final ResultSink<HandResultDto> sink;
+
+    public AsyncHandResultRepository(HandResultRepositoryImpl delegate,
+                                     @Value("${application.results.queue-capacity:10000}") int capacity,
+                                     @Value("${application.results.batch-size:50}") int batchSize) {
+        Objects.requireNonNull(delegate, "Hand result repository must not be null!");
+        this.sink = new ResultSink<>("hand", capacity, batchSize, delegate::saveAll);
+    }
+
+    @Override
+    public void save(HandResultDto handResultDto) {
+        sink.add(handResultDto);
+    }
+
+    @Override
+    public void saveAll(Collection<HandResultDto> handResultDtos) {
+        handResultDtos.forEach(sink::add);
+    }
+
+    public ResultSink.Stats stats() {
+        return sink.stats();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        sink.close();
+    }
+}
@@ -21,57 +21,256 @@
 package com.bueno.persistence.repositories;
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
 import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.utils.exceptions.ConcurrentGameUpdateException;
 import com.bueno.domain.usecases.utils.exceptions.EntityNotFoundException;
 import com.bueno.persistence.dao.GameDao;
 import com.bueno.persistence.dao.PlayerDao;
 import com.bueno.persistence.dto.GameEntity;
 import com.bueno.persistence.dto.HandEntity;
-import com.bueno.persistence.dto.IntelEntity;
 import com.bueno.persistence.dto.PlayerEntity;
+import com.mongodb.bulk.BulkWriteResult;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
+import java.util.stream.Stream;
 
 @Repository
 public class GameRepositoryImpl implements GameRepository {
 
+    private static final String HANDS = "hands";
+    private static final int DUPLICATE_KEY = 11000;
+    private static final int TRACKED_SHAPES = 10_000;
+
     private final GameDao gameDao;
     private final PlayerDao playerDao;
+    private final MongoOperations mongoOperations;
+    //Number of hands and intel entries of the last hand stored for each game, as last written or read by this node.
+    //Only the most recently used games are tracked. A game without a known shape is simply replaced on its next update,
+    //so games deleted by other nodes or abandoned without a delete do not pile up here.
+    private final Map<UUID, StoredShape> storedShapes = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, StoredShape> eldest) {
+                    return size() > TRACKED_SHAPES;
+                }
+            });
 
-    public GameRepositoryImpl(GameDao dao, PlayerDao playerDao) {
+    public GameRepositoryImpl(GameDao dao, PlayerDao playerDao, MongoOperations mongoOperations) {
         this.gameDao = dao;
         this.playerDao = playerDao;
+        this.mongoOperations = mongoOperations;
     }
 
+    //A plain insert, so an existing game is detected by the store instead of by a previous read.
     @Override
     public void save(GameDto dto) {
-        gameDao.findById(dto.gameUuid())
-                .ifPresent(game -> {throw new EntityNotFoundException("Game already exists: " + game.getId());});
-        playerDao.save(PlayerEntity.from(dto.player1()));
-        playerDao.save(PlayerEntity.from(dto.player2()));
-        gameDao.save(GameEntity.from(dto));
+        try {
+            mongoOperations.insert(GameEntity.from(dto));
+        } catch (DuplicateKeyException e) {
+            throw new EntityNotFoundException("Game already exists: " + dto.gameUuid());
+        }
+        storedShapes.put(dto.gameUuid(), StoredShape.of(dto.hands()));
     }
 
+    //Appends only what changed since the stored shape: the fields and new intel of the last stored hand, and any hand
+    //dealt afterwards. The shape is part of the update filter, so a document changed elsewhere is rewritten instead.
+    //Either way, a game is written in a single round trip, and only over a stored version older than the given one.
     @Override
     public void update(GameDto dto) {
-        gameDao.findById(dto.gameUuid())
-                .orElseThrow(() -> new EntityNotFoundException("Can not update non-existing game: " + dto.gameUuid()));
-        playerDao.save(PlayerEntity.from(dto.player1()));
-        playerDao.save(PlayerEntity.from(dto.player2()));
-        gameDao.save(GameEntity.from(dto));
+        final StoredShape stored = storedShapes.get(dto.gameUuid());
+        if (stored == null || !appendChanges(dto, stored)) replace(dto);
+        storedShapes.put(dto.gameUuid(), StoredShape.of(dto.hands()));
+    }
+
+    private boolean appendChanges(GameDto dto, StoredShape stored) {
+        final AppendOperation append = appendOperation(dto, stored);
+        return append != null && mongoOperations.updateFirst(append.query(), append.update(), GameEntity.class).getMatchedCount() > 0;
+    }
+
+    //Null if the game no longer extends the stored shape, so it has to be replaced.
+    private AppendOperation appendOperation(GameDto dto, StoredShape stored) {
+        final List<HandDto> hands = dto.hands();
+        final int lastStored = stored.hands() - 1;
+        if (lastStored < 0 || hands.size() <= lastStored) return null;
+        if (hands.get(lastStored).history().size() < stored.lastHandHistory()) return null;
+
+        final String lastStoredPath = HANDS + "." + lastStored;
+        final Query query = Query.query(Criteria.where("_id").is(dto.gameUuid())
+                .and(HANDS).size(stored.hands())
+                .and(lastStoredPath + ".history").size(stored.lastHandHistory())
+                .orOperator(olderVersionThan(dto.version())));
+
+        final HandEntity hand = HandEntity.from(hands.get(lastStored), stored.lastHandHistory());
+        final Update update = new Update()
+                .set("firstToPlay", dto.firstToPlay().uuid())
+                .set("lastToPlay", dto.lastToPlay().uuid())
+                .set("players", List.of(PlayerEntity.from(dto.player1()), PlayerEntity.from(dto.player2())))
+                .set("lastActivity", GameEntity.lastActivityOf(dto))
+                .set("inactivePlayer", GameEntity.inactivePlayerOf(dto))
+                .set("version", dto.version())
+                .set(lastStoredPath + ".openCards", hand.getOpenCards())
+                .set(lastStoredPath + ".roundsPlayed", hand.getRoundsPlayed())
+                .set(lastStoredPath + ".possibleActions", hand.getPossibleActions())
+                .set(lastStoredPath + ".currentPlayer", hand.getCurrentPlayer())
+                .set(lastStoredPath + ".lastBetRaiser", hand.getLastBetRaiser())
+                .set(lastStoredPath + ".eventPlayer", hand.getEventPlayer())
+                .set(lastStoredPath + ".cartToPlayAgainst", hand.getCartToPlayAgainst())
+                .set(lastStoredPath + ".points", hand.getPoints())
+                .set(lastStoredPath + ".pointsProposal", hand.getPointsProposal())
+                .set(lastStoredPath + ".winner", hand.getWinner())
+                .set(lastStoredPath + ".state", hand.getState());
+        if (!hand.getHistory().isEmpty())
+            update.push(lastStoredPath + ".history").each(hand.getHistory().toArray());
+        //Mongo does not allow pushing to the hands array in the same update that sets fields of one of its elements,
+        //but the filter pins the array size, so new hands can be set right past its end.
+        for (int i = stored.hands(); i < hands.size(); i++)
+            update.set(HANDS + "." + i, HandEntity.from(hands.get(i)));
+        return new AppendOperation(query, update);
+    }
+
+    private void replace(GameDto dto) {
+        final Query query = replaceQuery(dto);
+        query.fields().include("_id");
+        if (mongoOperations.findAndReplace(query, GameEntity.from(dto)) != null) return;
+        if (mongoOperations.exists(Query.query(Criteria.where("_id").is(dto.gameUuid())), GameEntity.class))
+            throw new ConcurrentGameUpdateException("Game was updated concurrently: " + dto.gameUuid());
+        throw new EntityNotFoundException("Can not update non-existing game: " + dto.gameUuid());
+    }
+
+    private static Query replaceQuery(GameDto dto) {
+        return Query.query(Criteria.where("_id").is(dto.gameUuid()).orOperator(olderVersionThan(dto.version())));
+    }
+
+    private static Criteria[] olderVersionThan(long version) {
+        return new Criteria[]{Criteria.where("version").lt(version), Criteria.where("version").exists(false)};
+    }
+
+    //Writes new and changed games in a single bulk operation. Instead of throwing, it returns the failure of each game
+    //that was not written, so that one failing game does not fail the others.
+    public Map<UUID, RuntimeException> writeAll(Collection<GameDto> saves, Collection<GameDto> updates) {
+        final Map<UUID, RuntimeException> failures = new HashMap<>();
+        if (saves.isEmpty() && updates.isEmpty()) return failures;
+
+        final List<GameDto> operations = new ArrayList<>(saves.size() + updates.size());
+        final BulkOperations bulk = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, GameEntity.class);
+        for (GameDto dto : saves) {
+            bulk.insert(GameEntity.from(dto));
+            operations.add(dto);
+        }
+        for (GameDto dto : updates) {
+            final StoredShape stored = storedShapes.get(dto.gameUuid());
+            final AppendOperation append = stored != null ? appendOperation(dto, stored) : null;
+            if (append != null) bulk.updateOne(append.query(), append.update());
+            else bulk.replaceOne(replaceQuery(dto), GameEntity.from(dto));
+            operations.add(dto);
+        }
+
+        BulkWriteResult result;
+        try {
+            result = bulk.execute();
+        } catch (BulkOperationException e) {
+            result = e.getResult();
+            e.getErrors().forEach(error -> {
+                final UUID gameUuid = operations.get(error.getIndex()).gameUuid();
+                failures.put(gameUuid, error.getCode() == DUPLICATE_KEY
+                        ? new EntityNotFoundException("Game already exists: " + gameUuid)
+                        : new IllegalStateException("Could not write game " + gameUuid + ": " + error.getMessage()));
+            });
+        }
+
+        saves.stream().filter(dto -> !failures.containsKey(dto.gameUuid()))
+                .forEach(dto -> storedShapes.put(dto.gameUuid(), StoredShape.of(dto.hands())));
+        final List<GameDto> updated = updates.stream().filter(dto -> !failures.containsKey(dto.gameUuid())).toList();
+        if (result.getMatchedCount() < updated.size()) retryUnmatched(updated, failures);
+        else updated.forEach(dto -> storedShapes.put(dto.gameUuid(), StoredShape.of(dto.hands())));
+        return failures;
+    }
+
+    //An update matches nothing if the stored shape was outdated, or if the game changed or disappeared elsewhere. The
+    //stored versions tell which updates were written, and the others are retried alone to find out why.
+    private void retryUnmatched(List<GameDto> updated, Map<UUID, RuntimeException> failures) {
+        final Query query = Query.query(Criteria.where("_id").in(updated.stream().map(GameDto::gameUuid).toList()));
+        query.fields().include("_id").include("version");
+        final Map<UUID, Long> storedVersions = new HashMap<>();
+        mongoOperations.find(query, GameEntity.class).forEach(game ->
+                storedVersions.put(game.getId(), game.getVersion() != null ? game.getVersion() : 0L));
+
+        for (GameDto dto : updated) {
+            if (storedVersions.getOrDefault(dto.gameUuid(), -1L) == dto.version()) {
+                storedShapes.put(dto.gameUuid(), StoredShape.of(dto.hands()));
+                continue;
+            }
+            try {
+                update(dto);
+            } catch (RuntimeException e) {
+                failures.put(dto.gameUuid(), e);
+            }
+        }
     }
 
     @Override
     public void delete(UUID uuid) {
-        final GameEntity game = gameDao.findById(uuid)
-                .orElseThrow(() -> new EntityNotFoundException("Can not update non-existing game: " + uuid));
-        playerDao.deleteById(game.getPlayer1());
-        playerDao.deleteById(game.getPlayer2());
-        gameDao.delete(game);
+        final Query query = Query.query(Criteria.where("_id").is(uuid));
+        query.fields().include("_id").include("player1").include("player2").include("players");
+        final GameEntity game = mongoOperations.findAndRemove(query, GameEntity.class);
+        storedShapes.remove(uuid);
+        if (game == null) throw new EntityNotFoundException("Can not update non-existing game: " + uuid);
+        removeLegacyPlayers(List.of(game));
+    }
+
+    @Override
+    public void deleteAll(Collection<UUID> uuids) {
+        if (uuids.isEmpty()) return;
+        final Query query = Query.query(Criteria.where("_id").in(uuids));
+        query.fields().include("_id").include("player1").include("player2").include("players");
+        final List<GameEntity> removed = mongoOperations.findAllAndRemove(query, GameEntity.class);
+        uuids.forEach(storedShapes::remove);
+        removeLegacyPlayers(removed);
+    }
+
+    //Removes only games still at the version they were found inactive with, in a single query. Games stored before
+    //versioning have no version at all, which is read as version zero.
+    @Override
+    public Collection<InactiveGameDto> deleteAllInactive(Collection<InactiveGameDto> games) {
+        if (games.isEmpty()) return List.of();
+        final Criteria[] unchanged = games.stream()
+                .map(game -> game.version() == 0
+                        ? Criteria.where("_id").is(game.gameUuid()).and("version").in(0L, null)
+                        : Criteria.where("_id").is(game.gameUuid()).and("version").is(game.version()))
+                .toArray(Criteria[]::new);
+        final Query query = Query.query(new Criteria().orOperator(unchanged));
+        query.fields().include("_id").include("player1").include("player2").include("players");
+        final List<GameEntity> removed = mongoOperations.findAllAndRemove(query, GameEntity.class);
+        final Set<UUID> removedUuids = new HashSet<>();
+        removed.forEach(game -> removedUuids.add(game.getId()));
+        removedUuids.forEach(storedShapes::remove);
+        removeLegacyPlayers(removed);
+        return games.stream().filter(game -> removedUuids.contains(game.gameUuid())).toList();
+    }
+
+    //Games stored before players were embedded still keep them in the player collection.
+    private void removeLegacyPlayers(List<GameEntity> games) {
+        final List<UUID> playerUuids = games.stream()
+                .filter(game -> game.getPlayers() == null)
+                .flatMap(game -> Stream.of(game.getPlayer1(), game.getPlayer2()))
+                .toList();
+        if (playerUuids.isEmpty()) return;
+        mongoOperations.remove(Query.query(Criteria.where("_id").in(playerUuids)), PlayerEntity.class);
     }
 
     @Override
@@ -81,32 +280,62 @@ public class GameRepositoryImpl implements GameRepository {
         return getGameDto(possibleGame.orElse(null));
     }
 
+    //Reads only identifiers through the lastActivity index. Games stored before it existed get it on their next update.
     @Override
-    public Collection<GameDto> findAllInactiveAfter(int minutes) {
-        return gameDao.findAll().stream()
-                .filter(game -> isInactive(game, minutes))
+    public Collection<InactiveGameDto> findAllInactiveAfter(int minutes) {
+        final Instant limit = Instant.now().minus(Duration.ofMinutes(minutes));
+        final Query query = Query.query(Criteria.where("lastActivity").lte(limit));
+        query.fields().include("_id").include("timestamp").include("player1").include("player2").include("inactivePlayer")
+                .include("version");
+        final List<InactiveGameDto> inactiveGames = new ArrayList<>();
+        mongoOperations.find(query, GameEntity.class).forEach(game -> inactiveGames.add(game.toInactiveGameDto()));
+        inactiveGames.addAll(findLegacyInactiveAfter(limit));
+        return inactiveGames;
+    }
+
+    //Games not updated since lastActivity exists are read in full, since their activity and inactive player are only
+    //known from the hands. A game can not have been active after the limit if it was not even created by then.
+    private List<InactiveGameDto> findLegacyInactiveAfter(Instant limit) {
+        final LocalDateTime createdBefore = LocalDateTime.ofInstant(limit, ZoneId.systemDefault());
+        final Query query = Query.query(Criteria.where("lastActivity").exists(false).and("timestamp").lte(createdBefore));
+        return mongoOperations.find(query, GameEntity.class).stream()
                 .map(this::getGameDto)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
+                .flatMap(Optional::stream)
+                .filter(game -> isInactiveSince(game, limit))
+                .map(InactiveGameDto::of)
                 .toList();
     }
 
-    public boolean isInactive(GameEntity game, int minutes){
-        if(game.getHands().isEmpty()) return false;
-        final int index = game.getHands().size() - 1;
-        final HandEntity hand = game.getHands().get(index);
-        final IntelEntity intel = hand.getHistory().get(hand.getHistory().size() - 1);
-        final Instant lastInteraction = intel.getTimestamp();
-        final Instant now = Instant.now();
-        final long inactivityInMinutes = Duration.between(lastInteraction, now).toMinutes();
-        System.out.println("Inactive during (minutes): " + inactivityInMinutes);
-        return inactivityInMinutes >= minutes;
+    private static boolean isInactiveSince(GameDto game, Instant limit) {
+        final Instant lastActivity = GameEntity.lastActivityOf(game);
+        return lastActivity != null && !lastActivity.isAfter(limit);
     }
 
     private Optional<GameDto> getGameDto(GameEntity game) {
         if(game == null) return Optional.empty();
-        final PlayerDto player1 = playerDao.findById(game.getPlayer1()).orElseThrow().toDto();
-        final PlayerDto player2 = playerDao.findById(game.getPlayer2()).orElseThrow().toDto();
-        return Optional.of(game.toDto(Map.of(player1.uuid(), player1, player2.uuid(), player2)));
+        final GameDto dto = game.toDto(playersOf(game));
+        storedShapes.put(dto.gameUuid(), StoredShape.of(dto.hands()));
+        return Optional.of(dto);
+    }
+
+    private Map<UUID, PlayerDto> playersOf(GameEntity game) {
+        final Map<UUID, PlayerDto> players = new HashMap<>();
+        if (game.getPlayers() != null) {
+            game.getPlayers().forEach(player -> players.put(player.getId(), player.toDto()));
+            return players;
+        }
+        //Games stored before players were embedded keep them in the player collection.
+        for (UUID uuid : List.of(game.getPlayer1(), game.getPlayer2()))
+            players.put(uuid, playerDao.findById(uuid).orElseThrow().toDto());
+        return players;
+    }
+
+    private record AppendOperation(Query query, Update update) {}
+
+    private record StoredShape(int hands, int lastHandHistory) {
+        private static StoredShape of(List<HandDto> hands) {
+            if (hands.isEmpty()) return new StoredShape(0, 0);
+            return new StoredShape(hands.size(), hands.get(hands.size() - 1).history().size());
+        }
     }
 }
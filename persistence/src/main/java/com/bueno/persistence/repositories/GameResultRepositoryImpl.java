@@ -30,6 +30,7 @@ import com.bueno.persistence.dto.GameResultQR;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -47,6 +48,11 @@ public class GameResultRepositoryImpl implements GameResultRepository {
         repo.save(GameResultEntity.from(gameResult));
     }
 
+    @Override
+    public void saveAll(Collection<GameResultDto> gameResults) {
+        repo.saveAll(gameResults.stream().map(GameResultEntity::from).toList());
+    }
+
     @Override
     public List<PlayerWinsDto> findTopWinners(Integer maxNumberOfUsers){
         return repo.findTopWinners(Pageable.ofSize(maxNumberOfUsers)).stream()
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+//Bounded queue of results written in batches by a background thread. When the queue is full, the producer writes a
+//batch itself, which slows it down to the pace of the store instead of dropping results or growing without limit.
+//Results are only taken from the queue while holding the write lock, so holding it means no batch is in flight.
+public final class ResultSink<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultSink.class);
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final String name;
+    private final BlockingQueue<T> queue;
+    private final int batchSize;
+    private final Consumer<List<T>> writer;
+    private final Thread worker;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong producerWrites = new AtomicLong();
+    private volatile boolean running = true;
+
+    ResultSink(String name, int capacity, int batchSize, Consumer<List<T>> writer) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        if (batchSize <= 0) throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        this.name = Objects.requireNonNull(name, "Name must not be null!");
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.writer = Objects.requireNonNull(writer, "Writer must not be null!");
+        this.worker = new Thread(this::run, name + "-sink");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    void add(T result) {
+        Objects.requireNonNull(result, "Result must not be null!");
+        enqueued.incrementAndGet();
+        while (!queue.offer(result)) {
+            producerWrites.incrementAndGet();
+            writeBatch();
+        }
+        //The worker wakes up by itself to write smaller batches.
+        if (queue.size() >= batchSize) LockSupport.unpark(worker);
+    }
+
+    //Writes everything queued so far, after waiting for the batch being written by another thread, if any.
+    void flush() {
+        writeLock.lock();
+        try {
+            while (!queue.isEmpty()) writeBatch();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    //Lets the worker write what is left in the queue and stop, then writes anything it could not get to in time.
+    void close() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(worker);
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+        flush();
+        log.info("Closed {} result sink: {}", name, stats());
+    }
+
+    Stats stats() {
+        return new Stats(enqueued.get(), written.get(), failed.get(), batches.get(), producerWrites.get(), queue.size());
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            if (queue.isEmpty()) LockSupport.parkNanos(this, POLL_NANOS);
+            else writeBatch();
+        }
+    }
+
+    private void writeBatch() {
+        writeLock.lock();
+        try {
+            final List<T> batch = new ArrayList<>(batchSize);
+            queue.drainTo(batch, batchSize);
+            if (!batch.isEmpty()) write(batch);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void write(List<T> batch) {
+        try {
+            writer.accept(batch);
+            written.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            //Results are analytics data, so a failed batch is counted and logged instead of retried forever.
+            failed.addAndGet(batch.size());
+            log.warn("Could not write {} {} results.", batch.size(), name, e);
+        }
+        batches.incrementAndGet();
+    }
+
+    public record Stats(long enqueued, long written, long failed, long batches, long producerWrites, int queued) {}
+}
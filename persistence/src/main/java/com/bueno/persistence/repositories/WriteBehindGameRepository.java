@@ -0,0 +1,313 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.utils.exceptions.ConcurrentGameUpdateException;
+import com.bueno.domain.usecases.utils.exceptions.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+//Keeps active games in memory as the source of truth and writes them behind to the Mongo repository. Dirty games are
+//flushed in batches every flush interval and once more on shutdown. A non-positive interval writes through instead.
+@Repository
+public class WriteBehindGameRepository implements GameRepository, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindGameRepository.class);
+    static final int MAX_WRITE_ATTEMPTS = 5;
+
+    private enum PendingWrite {SAVE, UPDATE, DELETE}
+
+    private final GameRepositoryImpl delegate;
+    private final int batchSize;
+    private final Map<UUID, GameDto> games = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> gameByPlayer = new ConcurrentHashMap<>();
+    private final Map<UUID, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> failedAttempts = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    public WriteBehindGameRepository(GameRepositoryImpl delegate,
+                                     @Value("${application.games.write-behind.flush-interval-millis:1000}") long flushIntervalMillis,
+                                     @Value("${application.games.write-behind.batch-size:256}") int batchSize) {
+        this.delegate = Objects.requireNonNull(delegate, "Game repository must not be null!");
+        if (batchSize <= 0) throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        this.batchSize = batchSize;
+        if (flushIntervalMillis <= 0) {
+            flusher = null;
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "game-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    //In write-through mode, each call writes its own game only and fails with its own error before touching the cache.
+    @Override
+    public void save(GameDto gameDto) {
+        if (flusher == null) delegate.save(gameDto);
+        cache(gameDto);
+        if (flusher == null) return;
+        //A game deleted but not yet flushed still exists in the store, so saving it again is an update.
+        pendingWrites.compute(gameDto.gameUuid(), (uuid, pending) -> pending == PendingWrite.DELETE ? PendingWrite.UPDATE : PendingWrite.SAVE);
+    }
+
+    //The cached game is the latest one, so versions are checked here and writes that reach the store are newer.
+    @Override
+    public void update(GameDto gameDto) {
+        if (flusher == null) delegate.update(gameDto);
+        games.compute(gameDto.gameUuid(), (uuid, cached) -> {
+            if (cached != null && cached.version() >= gameDto.version())
+                throw new ConcurrentGameUpdateException("Game was updated concurrently: " + uuid);
+            return gameDto;
+        });
+        index(gameDto);
+        if (flusher == null) return;
+        pendingWrites.compute(gameDto.gameUuid(), (uuid, pending) -> pending == PendingWrite.SAVE ? PendingWrite.SAVE : PendingWrite.UPDATE);
+    }
+
+    @Override
+    public void delete(UUID uuid) {
+        if (flusher == null) delegate.delete(uuid);
+        evict(uuid);
+        if (flusher != null) queueDelete(uuid);
+    }
+
+    @Override
+    public void deleteAll(Collection<UUID> uuids) {
+        if (flusher == null) delegate.deleteAll(uuids);
+        uuids.forEach(uuid -> {
+            evict(uuid);
+            if (flusher != null) queueDelete(uuid);
+        });
+    }
+
+    //The cached game is the latest one, so its version tells whether the game was updated since it was found
+    //inactive. Games that are not cached are checked by the store.
+    @Override
+    public Collection<InactiveGameDto> deleteAllInactive(Collection<InactiveGameDto> inactiveGames) {
+        if (flusher == null) {
+            final Collection<InactiveGameDto> deleted = delegate.deleteAllInactive(inactiveGames);
+            deleted.forEach(game -> evict(game.gameUuid()));
+            return deleted;
+        }
+        final List<InactiveGameDto> deleted = new ArrayList<>();
+        final List<InactiveGameDto> uncached = new ArrayList<>();
+        for (InactiveGameDto inactiveGame : inactiveGames) {
+            final UUID gameUuid = inactiveGame.gameUuid();
+            final GameDto cached = games.get(gameUuid);
+            if (cached == null) {
+                if (pendingWrites.get(gameUuid) != PendingWrite.DELETE) uncached.add(inactiveGame);
+                continue;
+            }
+            if (cached.version() != inactiveGame.version() || !games.remove(gameUuid, cached)) continue;
+            unindex(cached);
+            queueDelete(gameUuid);
+            deleted.add(inactiveGame);
+        }
+        if (!uncached.isEmpty()) deleted.addAll(delegate.deleteAllInactive(uncached));
+        return deleted;
+    }
+
+    @Override
+    public Optional<GameDto> findByPlayerUuid(UUID playerUuid) {
+        final UUID uuid = Objects.requireNonNull(playerUuid, "User UUID must not be null.");
+        final UUID gameUuid = gameByPlayer.get(uuid);
+        final GameDto cached = gameUuid != null ? games.get(gameUuid) : null;
+        if (cached != null) return Optional.of(cached);
+
+        final Optional<GameDto> stored = delegate.findByPlayerUuid(uuid)
+                .filter(game -> pendingWrites.get(game.gameUuid()) != PendingWrite.DELETE);
+        stored.ifPresent(game -> {
+            games.putIfAbsent(game.gameUuid(), game);
+            gameByPlayer.putIfAbsent(game.player1().uuid(), game.gameUuid());
+            gameByPlayer.putIfAbsent(game.player2().uuid(), game.gameUuid());
+        });
+        return stored.map(game -> games.getOrDefault(game.gameUuid(), game));
+    }
+
+    //Inactivity is evaluated by the store, so pending writes are flushed first.
+    @Override
+    public Collection<InactiveGameDto> findAllInactiveAfter(int minutes) {
+        flush();
+        return delegate.findAllInactiveAfter(minutes);
+    }
+
+    //Failures are handled game by game, so a flush only throws if the store can not be reached at all. Flushes are
+    //serialized, so a flush asked for by a caller never writes the same game as the scheduled one.
+    public synchronized void flush() {
+        final List<UUID> batch = new ArrayList<>(batchSize);
+        final Iterator<UUID> dirty = pendingWrites.keySet().iterator();
+        while (dirty.hasNext()) {
+            batch.add(dirty.next());
+            if (batch.size() < batchSize && dirty.hasNext()) continue;
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    //Saves and updates of a batch go to the store in one bulk write, and its deletes in another.
+    private void write(List<UUID> batch) {
+        final Map<UUID, PendingWrite> writes = new LinkedHashMap<>();
+        for (UUID gameUuid : batch) {
+            final PendingWrite pending = pendingWrites.remove(gameUuid);
+            if (pending != null) writes.put(gameUuid, pending);
+        }
+
+        final List<GameDto> saves = new ArrayList<>();
+        final List<GameDto> updates = new ArrayList<>();
+        final List<UUID> deletes = new ArrayList<>();
+        writes.forEach((gameUuid, pending) -> {
+            if (pending == PendingWrite.DELETE) {
+                deletes.add(gameUuid);
+                return;
+            }
+            //A game no longer cached was deleted or evicted meanwhile, so there is nothing left to write.
+            final GameDto game = games.get(gameUuid);
+            if (game != null && pending == PendingWrite.SAVE) saves.add(game);
+            if (game != null && pending == PendingWrite.UPDATE) updates.add(game);
+        });
+
+        final Map<UUID, GameDto> written = new HashMap<>();
+        saves.forEach(game -> written.put(game.gameUuid(), game));
+        updates.forEach(game -> written.put(game.gameUuid(), game));
+        final Map<UUID, RuntimeException> failures = new HashMap<>();
+        try {
+            if (!saves.isEmpty() || !updates.isEmpty()) failures.putAll(delegate.writeAll(saves, updates));
+        } catch (RuntimeException e) {
+            saves.forEach(game -> failures.put(game.gameUuid(), e));
+            updates.forEach(game -> failures.put(game.gameUuid(), e));
+        }
+        try {
+            if (!deletes.isEmpty()) delegate.deleteAll(deletes);
+        } catch (RuntimeException e) {
+            deletes.forEach(gameUuid -> failures.put(gameUuid, e));
+        }
+
+        writes.forEach((gameUuid, pending) -> {
+            final RuntimeException failure = failures.get(gameUuid);
+            if (failure == null) failedAttempts.remove(gameUuid);
+            else handleFailure(gameUuid, pending, failure, written.get(gameUuid));
+        });
+    }
+
+    //Only the game that failed to be written is dropped. A newer one cached meanwhile keeps its own pending write.
+    private void handleFailure(UUID gameUuid, PendingWrite pending, RuntimeException failure, GameDto failedGame) {
+        //A newer version in the store was written elsewhere, or the game was removed there, so the cached game is
+        //dropped and read again when needed.
+        if (pending == PendingWrite.UPDATE
+                && (failure instanceof ConcurrentGameUpdateException || failure instanceof EntityNotFoundException)) {
+            log.warn("Dropped cached game {}: {}", gameUuid, failure.getMessage());
+            failedAttempts.remove(gameUuid);
+            evict(gameUuid, failedGame);
+            return;
+        }
+        //The game reached the store even though its save was reported as failed, so it is updated from now on.
+        if (pending == PendingWrite.SAVE && failure instanceof EntityNotFoundException) {
+            requeue(gameUuid, PendingWrite.UPDATE);
+            return;
+        }
+
+        final int attempts = failedAttempts.merge(gameUuid, 1, Integer::sum);
+        if (attempts < MAX_WRITE_ATTEMPTS) {
+            log.warn("Could not {} game {} (attempt {} of {}), retrying on next flush.",
+                    pending, gameUuid, attempts, MAX_WRITE_ATTEMPTS, failure);
+            requeue(gameUuid, pending);
+            return;
+        }
+        log.error("Gave up trying to {} game {} after {} attempts.", pending, gameUuid, attempts, failure);
+        failedAttempts.remove(gameUuid);
+        evict(gameUuid, failedGame);
+    }
+
+    //Merges a failed write with any newer one for the same game that arrived while it was being written.
+    private void requeue(UUID gameUuid, PendingWrite failed) {
+        pendingWrites.compute(gameUuid, (uuid, newer) -> {
+            if (newer == null) return failed;
+            //The game is still missing from the store, so a newer update must insert it.
+            if (failed == PendingWrite.SAVE && newer == PendingWrite.UPDATE) return PendingWrite.SAVE;
+            //The game is still in the store, so a newer save must overwrite it.
+            if (failed == PendingWrite.DELETE && newer == PendingWrite.SAVE) return PendingWrite.UPDATE;
+            return newer;
+        });
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            //Scheduled flushes must survive a failing store; pending writes are retried on the next one.
+            log.error("Scheduled flush of games failed.", e);
+        }
+    }
+
+    //Deleting a game that was never flushed leaves nothing to write.
+    private void queueDelete(UUID gameUuid) {
+        pendingWrites.compute(gameUuid, (key, pending) -> pending == PendingWrite.SAVE ? null : PendingWrite.DELETE);
+    }
+
+    private void cache(GameDto gameDto) {
+        games.put(gameDto.gameUuid(), gameDto);
+        index(gameDto);
+    }
+
+    private void index(GameDto gameDto) {
+        gameByPlayer.put(gameDto.player1().uuid(), gameDto.gameUuid());
+        gameByPlayer.put(gameDto.player2().uuid(), gameDto.gameUuid());
+    }
+
+    private void evict(UUID gameUuid) {
+        final GameDto removed = games.remove(gameUuid);
+        if (removed != null) unindex(removed);
+    }
+
+    private void evict(UUID gameUuid, GameDto game) {
+        if (game != null && games.remove(gameUuid, game)) unindex(game);
+    }
+
+    private void unindex(GameDto gameDto) {
+        gameByPlayer.remove(gameDto.player1().uuid(), gameDto.gameUuid());
+        gameByPlayer.remove(gameDto.player2().uuid(), gameDto.gameUuid());
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (flusher != null) {
+            flusher.shutdown();
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        flush();
+        if (!pendingWrites.isEmpty()) log.error("Lost {} pending game writes on shutdown.", pendingWrites.size());
+    }
+}
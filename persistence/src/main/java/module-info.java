@@ -6,7 +6,10 @@ module application.persistence {
     requires spring.context;
     requires spring.beans;
     requires spring.data.mongodb;
+    requires org.mongodb.driver.core;
     requires spring.data.commons;
+    requires spring.tx;
+    requires org.slf4j;
     exports com.bueno.persistence.repositories;
     exports com.bueno.persistence.dao;
     exports com.bueno.persistence.dto;
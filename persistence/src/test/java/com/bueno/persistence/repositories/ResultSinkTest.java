@@ -0,0 +1,109 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.persistence.repositories;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ResultSinkTest {
+
+    @Test
+    @DisplayName("Should not accept non-positive capacity or batch size")
+    void shouldNotAcceptNonPositiveCapacityOrBatchSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ResultSink<Integer>("test", 0, 1, batch -> {}));
+        assertThatIllegalArgumentException().isThrownBy(() -> new ResultSink<Integer>("test", 1, 0, batch -> {}));
+    }
+
+    @Test
+    @DisplayName("Should wait for the batch in flight when flushing")
+    void shouldWaitForTheBatchInFlightWhenFlushing() throws InterruptedException {
+        final List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch writing = new CountDownLatch(1);
+        final ResultSink<Integer> sut = new ResultSink<>("test", 10, 10, batch -> {
+            writing.countDown();
+            sleep(200);
+            written.addAll(batch);
+        });
+        sut.add(1);
+        sut.add(2);
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        sut.flush();
+
+        assertThat(written).containsExactlyInAnyOrder(1, 2);
+        sut.close();
+    }
+
+    @Test
+    @DisplayName("Should write all queued results on close without interrupting the writer")
+    void shouldWriteAllQueuedResultsOnCloseWithoutInterruptingTheWriter() throws InterruptedException {
+        final List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        final ResultSink<Integer> sut = new ResultSink<>("test", 100, 5, batch -> {
+            sleep(20);
+            written.addAll(batch);
+        });
+        for (int i = 0; i < 50; i++) sut.add(i);
+        sut.close();
+
+        assertThat(written).hasSize(50);
+        assertThat(sut.stats().written()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Should write a batch in the producer thread when the queue is full")
+    void shouldWriteABatchInTheProducerThreadWhenTheQueueIsFull() throws InterruptedException {
+        final ResultSink<Integer> sut = new ResultSink<>("test", 2, 2, batch -> sleep(50));
+        for (int i = 0; i < 20; i++) sut.add(i);
+        sut.close();
+
+        assertThat(sut.stats().producerWrites()).isPositive();
+        assertThat(sut.stats().written()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Should count results of failed batches")
+    void shouldCountResultsOfFailedBatches() throws InterruptedException {
+        final ResultSink<Integer> sut = new ResultSink<>("test", 10, 10, batch -> {
+            throw new IllegalStateException("Store failure");
+        });
+        sut.add(1);
+        sut.add(2);
+        sut.close();
+
+        assertThat(sut.stats().failed()).isEqualTo(2);
+        assertThat(sut.stats().written()).isZero();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException("Writer was interrupted", e);
+        }
+    }
+}
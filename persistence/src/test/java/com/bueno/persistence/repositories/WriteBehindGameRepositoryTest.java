@@ -0,0 +1,259 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
+import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.utils.exceptions.ConcurrentGameUpdateException;
+import com.bueno.domain.usecases.utils.exceptions.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindGameRepositoryTest {
+
+    private static final long NO_SCHEDULED_FLUSH = 60 * 60 * 1000;
+
+    @Mock private GameRepositoryImpl store;
+
+    private WriteBehindGameRepository sut;
+    private GameDto game;
+    private GameDto otherGame;
+
+    @BeforeEach
+    void setUp() {
+        sut = new WriteBehindGameRepository(store, NO_SCHEDULED_FLUSH, 256);
+        game = gameWithVersion(UUID.randomUUID(), 0);
+        otherGame = gameWithVersion(UUID.randomUUID(), 0);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sut.destroy();
+    }
+
+    private static GameDto gameWithVersion(UUID gameUuid, long version) {
+        final PlayerDto player1 = new PlayerDto("User", UUID.randomUUID(), 0, false, List.of());
+        final PlayerDto player2 = new PlayerDto("Bot", UUID.randomUUID(), 0, true, List.of());
+        return new GameDto(gameUuid, LocalDateTime.now(), player1, player2, player1, player2, List.of(), version);
+    }
+
+    private static GameDto nextVersionOf(GameDto game) {
+        return new GameDto(game.gameUuid(), game.timestamp(), game.player1(), game.player2(),
+                game.firstToPlay(), game.lastToPlay(), game.hands(), game.version() + 1);
+    }
+
+    @Test
+    @DisplayName("Should write pending saves and updates of a flush in a single bulk write")
+    void shouldWritePendingSavesAndUpdatesOfAFlushInASingleBulkWrite() {
+        sut.save(game);
+        sut.flush();
+        final GameDto updated = nextVersionOf(game);
+        sut.update(updated);
+        sut.save(otherGame);
+        sut.flush();
+
+        verify(store).writeAll(List.of(game), List.of());
+        verify(store).writeAll(List.of(otherGame), List.of(updated));
+        verify(store, never()).save(any());
+        verify(store, never()).update(any());
+    }
+
+    @Test
+    @DisplayName("Should write deletes of a flush together")
+    void shouldWriteDeletesOfAFlushTogether() {
+        sut.save(game);
+        sut.save(otherGame);
+        sut.flush();
+        sut.deleteAll(List.of(game.gameUuid(), otherGame.gameUuid()));
+        sut.flush();
+
+        verify(store).deleteAll(argThat(uuids -> uuids.size() == 2
+                && uuids.containsAll(List.of(game.gameUuid(), otherGame.gameUuid()))));
+    }
+
+    @Test
+    @DisplayName("Should delete only inactive games whose cached version did not change")
+    void shouldDeleteOnlyInactiveGamesWhoseCachedVersionDidNotChange() {
+        sut.save(game);
+        sut.save(otherGame);
+        final InactiveGameDto inactiveGame = InactiveGameDto.of(game);
+        final InactiveGameDto updatedGame = InactiveGameDto.of(otherGame);
+        final GameDto updated = nextVersionOf(otherGame);
+        sut.update(updated);
+        sut.flush();
+
+        assertThat(sut.deleteAllInactive(List.of(inactiveGame, updatedGame))).containsExactly(inactiveGame);
+        sut.flush();
+
+        assertThat(sut.findByPlayerUuid(otherGame.player1().uuid())).contains(updated);
+        verify(store).deleteAll(List.of(game.gameUuid()));
+        verify(store, never()).deleteAllInactive(any());
+    }
+
+    @Test
+    @DisplayName("Should let the store check inactive games that are not cached")
+    void shouldLetTheStoreCheckInactiveGamesThatAreNotCached() {
+        final InactiveGameDto inactiveGame = InactiveGameDto.of(game);
+        when(store.deleteAllInactive(List.of(inactiveGame))).thenReturn(List.of(inactiveGame));
+
+        assertThat(sut.deleteAllInactive(List.of(inactiveGame))).containsExactly(inactiveGame);
+    }
+
+    @Test
+    @DisplayName("Should retry only the games that failed to be written")
+    void shouldRetryOnlyTheGamesThatFailedToBeWritten() {
+        when(store.writeAll(any(), any()))
+                .thenReturn(Map.of(game.gameUuid(), new IllegalStateException("Store failure")))
+                .thenReturn(Map.of());
+        sut.save(game);
+        sut.save(otherGame);
+        sut.flush();
+        sut.flush();
+
+        verify(store).writeAll(List.of(game), List.of());
+        verify(store, times(2)).writeAll(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should retry a failed save as a save even if the game was updated while being written")
+    void shouldRetryAFailedSaveAsASaveEvenIfTheGameWasUpdatedWhileBeingWritten() {
+        final GameDto updated = nextVersionOf(game);
+        when(store.writeAll(any(), any()))
+                .thenAnswer(invocation -> {
+                    sut.update(updated);
+                    return Map.of(game.gameUuid(), new IllegalStateException("Store failure"));
+                })
+                .thenReturn(Map.of());
+        sut.save(game);
+        sut.flush();
+        sut.flush();
+
+        verify(store).writeAll(List.of(updated), List.of());
+    }
+
+    @Test
+    @DisplayName("Should update a game whose save reached the store although it was reported as failed")
+    void shouldUpdateAGameWhoseSaveReachedTheStoreAlthoughItWasReportedAsFailed() {
+        when(store.writeAll(any(), any()))
+                .thenReturn(Map.of(game.gameUuid(), new EntityNotFoundException("Game already exists")))
+                .thenReturn(Map.of());
+        sut.save(game);
+        sut.flush();
+        sut.flush();
+
+        verify(store).writeAll(List.of(), List.of(game));
+    }
+
+    @Test
+    @DisplayName("Should drop cached game if its update conflicts with the store")
+    void shouldDropCachedGameIfItsUpdateConflictsWithTheStore() {
+        final GameDto updated = nextVersionOf(game);
+        when(store.writeAll(any(), any()))
+                .thenReturn(Map.of())
+                .thenReturn(Map.of(game.gameUuid(), new ConcurrentGameUpdateException("Conflict")));
+        when(store.findByPlayerUuid(game.player1().uuid())).thenReturn(Optional.empty());
+        sut.save(game);
+        sut.flush();
+        sut.update(updated);
+        sut.flush();
+        sut.flush();
+
+        assertThat(sut.findByPlayerUuid(game.player1().uuid())).isEmpty();
+        verify(store, times(2)).writeAll(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep a newer cached game when an older write of it is dropped")
+    void shouldKeepANewerCachedGameWhenAnOlderWriteOfItIsDropped() {
+        final GameDto updated = nextVersionOf(game);
+        final GameDto newer = nextVersionOf(updated);
+        when(store.writeAll(any(), any()))
+                .thenReturn(Map.of())
+                .thenAnswer(invocation -> {
+                    sut.update(newer);
+                    return Map.of(game.gameUuid(), new ConcurrentGameUpdateException("Conflict"));
+                })
+                .thenReturn(Map.of());
+        sut.save(game);
+        sut.flush();
+        sut.update(updated);
+        sut.flush();
+        sut.flush();
+
+        assertThat(sut.findByPlayerUuid(game.player1().uuid())).contains(newer);
+        verify(store).writeAll(List.of(), List.of(newer));
+    }
+
+    @Test
+    @DisplayName("Should give up writing a game after the maximum number of attempts")
+    void shouldGiveUpWritingAGameAfterTheMaximumNumberOfAttempts() {
+        when(store.writeAll(any(), any())).thenReturn(Map.of(game.gameUuid(), new IllegalStateException("Store failure")));
+        when(store.findByPlayerUuid(game.player1().uuid())).thenReturn(Optional.empty());
+        sut.save(game);
+        for (int i = 0; i <= WriteBehindGameRepository.MAX_WRITE_ATTEMPTS; i++) sut.flush();
+
+        verify(store, times(WriteBehindGameRepository.MAX_WRITE_ATTEMPTS)).writeAll(any(), any());
+        assertThat(sut.findByPlayerUuid(game.player1().uuid())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep the writes of a flush if the store can not be reached")
+    void shouldKeepTheWritesOfAFlushIfTheStoreCanNotBeReached() {
+        when(store.writeAll(any(), any()))
+                .thenThrow(new IllegalStateException("Store is down"))
+                .thenReturn(Map.of());
+        sut.save(game);
+        sut.save(otherGame);
+        sut.flush();
+        sut.flush();
+
+        verify(store, times(2)).writeAll(argThat(saves -> saves.size() == 2), any());
+    }
+
+    @Test
+    @DisplayName("Should only fail with the error of its own game in write-through mode")
+    void shouldOnlyFailWithTheErrorOfItsOwnGameInWriteThroughMode() {
+        final var writeThrough = new WriteBehindGameRepository(store, 0, 256);
+        lenient().doThrow(new IllegalStateException("Store failure")).when(store).save(game);
+        when(store.findByPlayerUuid(game.player1().uuid())).thenReturn(Optional.empty());
+
+        assertThatIllegalStateException().isThrownBy(() -> writeThrough.save(game));
+        assertThatNoException().isThrownBy(() -> writeThrough.save(otherGame));
+        assertThat(writeThrough.findByPlayerUuid(game.player1().uuid())).isEmpty();
+        assertThat(writeThrough.findByPlayerUuid(otherGame.player1().uuid())).contains(otherGame);
+    }
+}
@@ -57,4 +57,10 @@ public class IntelController {
         final var intelSince = intelUseCase.findIntelSince(uuid, timestamp);
         return ResponseEntity.ok(intelSince);
     }
+
+    @GetMapping(path = "/intel-after/{sequence}")
+    private ResponseEntity<?> getIntelAfter(@PathVariable UUID uuid, @PathVariable long sequence){
+        final var intelAfter = intelUseCase.findIntelAfter(uuid, sequence);
+        return ResponseEntity.ok(intelAfter);
+    }
 }
@@ -22,23 +22,40 @@ package com.bueno.controllers;
 
 import com.bueno.domain.usecases.game.ReportTopWinnersUseCase;
 import com.bueno.domain.usecases.game.dtos.TopWinnersDto;
+import com.bueno.persistence.repositories.AsyncGameResultRepository;
+import com.bueno.persistence.repositories.AsyncHandResultRepository;
+import com.bueno.persistence.repositories.ResultSink;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping(path = "/api/v1/reports")
 public class ReportController {
 
     private final ReportTopWinnersUseCase reportTopWinnersUseCase;
+    private final AsyncGameResultRepository gameResultRepository;
+    private final AsyncHandResultRepository handResultRepository;
 
-    public ReportController(ReportTopWinnersUseCase reportTopWinnersUseCase) {
+    public ReportController(ReportTopWinnersUseCase reportTopWinnersUseCase,
+                            AsyncGameResultRepository gameResultRepository,
+                            AsyncHandResultRepository handResultRepository) {
         this.reportTopWinnersUseCase = reportTopWinnersUseCase;
+        this.gameResultRepository = gameResultRepository;
+        this.handResultRepository = handResultRepository;
     }
 
     @GetMapping(path = "/top-winners/{numberOfTopWinners}")
     public TopWinnersDto topWinners(@PathVariable int numberOfTopWinners){
         return reportTopWinnersUseCase.create(numberOfTopWinners);
     }
+
+    //Counters of the queues that write game and hand results in the background.
+    @GetMapping(path = "/result-writes")
+    public Map<String, ResultSink.Stats> resultWrites(){
+        return Map.of("game", gameResultRepository.stats(), "hand", handResultRepository.stats());
+    }
 }
@@ -83,6 +83,18 @@ public class ApiExceptionHandler {
         return new ResponseEntity<>(apiException, conflict);
     }
 
+    @ExceptionHandler(value = ConcurrentGameUpdateException.class)
+    public ResponseEntity<?> handleConcurrentGameUpdateException(ConcurrentGameUpdateException e){
+        final HttpStatus conflict = CONFLICT;
+        final ApiException apiException = ApiException.builder()
+                .status(conflict)
+                .message(e.getMessage())
+                .developerMessage(e.getClass().getName())
+                .timestamp(ZonedDateTime.now(ZoneId.of("Z")))
+                .build();
+        return new ResponseEntity<>(apiException, conflict);
+    }
+
     @ExceptionHandler(value = IllegalArgumentException.class)
     public ResponseEntity<?> handleIllegalArgumentException(IllegalArgumentException e){
         final HttpStatus badRequest = BAD_REQUEST;
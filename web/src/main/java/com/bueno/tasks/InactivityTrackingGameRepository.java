@@ -0,0 +1,99 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.tasks;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.persistence.repositories.WriteBehindGameRepository;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+//Every game action ends in a save or an update, so this is where a game has its inactivity timer re-armed.
+@Primary
+@Component
+public class InactivityTrackingGameRepository implements GameRepository {
+
+    static final int INACTIVITY_MINUTES = 5;
+    private static final long TICK_MILLIS = 1_000;
+
+    private final GameRepository delegate;
+    private final TimingWheel<UUID, InactiveGameDto> wheel = new TimingWheel<>(TICK_MILLIS, System.currentTimeMillis());
+
+    public InactivityTrackingGameRepository(WriteBehindGameRepository delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "Game repository must not be null!");
+    }
+
+    @Override
+    public void save(GameDto gameDto) {
+        delegate.save(gameDto);
+        arm(gameDto);
+    }
+
+    @Override
+    public void update(GameDto gameDto) {
+        delegate.update(gameDto);
+        arm(gameDto);
+    }
+
+    @Override
+    public void delete(UUID uuid) {
+        wheel.cancel(uuid);
+        delegate.delete(uuid);
+    }
+
+    @Override
+    public void deleteAll(Collection<UUID> uuids) {
+        uuids.forEach(wheel::cancel);
+        delegate.deleteAll(uuids);
+    }
+
+    @Override
+    public Collection<InactiveGameDto> deleteAllInactive(Collection<InactiveGameDto> games) {
+        final Collection<InactiveGameDto> deleted = delegate.deleteAllInactive(games);
+        deleted.forEach(game -> wheel.cancel(game.gameUuid()));
+        return deleted;
+    }
+
+    @Override
+    public Optional<GameDto> findByPlayerUuid(UUID playerUuid) {
+        return delegate.findByPlayerUuid(playerUuid);
+    }
+
+    @Override
+    public Collection<InactiveGameDto> findAllInactiveAfter(int minutes) {
+        return delegate.findAllInactiveAfter(minutes);
+    }
+
+    List<InactiveGameDto> expireUntil(long nowMillis) {
+        return wheel.advanceTo(nowMillis);
+    }
+
+    private void arm(GameDto gameDto) {
+        wheel.schedule(gameDto.gameUuid(), InactiveGameDto.of(gameDto), INACTIVITY_MINUTES * 60_000L);
+    }
+}
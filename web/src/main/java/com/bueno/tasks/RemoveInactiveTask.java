@@ -35,14 +35,24 @@ public class RemoveInactiveTask {
     private static final Logger log = LoggerFactory.getLogger(RemoveInactiveTask.class);
 
     private final RemoveGameUseCase removeGameUseCase;
+    private final InactivityTrackingGameRepository gameRepository;
 
-    public RemoveInactiveTask(RemoveGameUseCase removeGameUseCase) {
+    public RemoveInactiveTask(RemoveGameUseCase removeGameUseCase, InactivityTrackingGameRepository gameRepository) {
         this.removeGameUseCase = removeGameUseCase;
+        this.gameRepository = gameRepository;
     }
 
-    @Scheduled(fixedRate = 30_000)
-    public void reportCurrentTime() {
-        final List<UUID> removedGames = removeGameUseCase.byInactivityAfter(5);
-        removedGames.forEach(gameUuid -> log.info("Removed game {} due to inactivity.", gameUuid));
+    //Removes the games whose inactivity timer expired since the last tick.
+    @Scheduled(fixedRate = 1_000)
+    public void removeExpiredGames() {
+        final List<UUID> removedGames = removeGameUseCase.byInactivity(gameRepository.expireUntil(System.currentTimeMillis()));
+        removedGames.forEach(playerUuid -> log.info("Removed game of player {} due to inactivity.", playerUuid));
     }
-}
\ No newline at end of file
+
+    //Games armed by no timer, like those left in the store by a previous run, are still found by a slow sweep.
+    @Scheduled(initialDelay = 60_000, fixedRate = 600_000)
+    public void removeUntrackedGames() {
+        final List<UUID> removedGames = removeGameUseCase.byInactivityAfter(InactivityTrackingGameRepository.INACTIVITY_MINUTES);
+        removedGames.forEach(playerUuid -> log.info("Removed game of player {} due to inactivity.", playerUuid));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.tasks;
+
+import java.util.*;
+
+//Hierarchical timing wheel: three levels of 64 slots, each slot of a level spanning a whole turn of the level below.
+//Scheduling, rescheduling and cancelling are O(1), and advancing only touches the slots passed by the clock, so the
+//cost of a tick depends on how many timers expire or move down a level, not on how many are armed.
+final class TimingWheel<K, V> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 3;
+    private static final long MAX_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final List<List<Set<K>>> levels = new ArrayList<>();
+    private final Map<K, Timer<V>> timers = new HashMap<>();
+    private long currentTick;
+
+    TimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) throw new IllegalArgumentException("Tick must be positive: " + tickMillis);
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            final List<Set<K>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) slots.add(new HashSet<>());
+            levels.add(slots);
+        }
+    }
+
+    //Replaces any timer already armed for the key. Delays beyond the wheel range expire at its end.
+    synchronized void schedule(K key, V value, long delayMillis) {
+        Objects.requireNonNull(key, "Key must not be null!");
+        cancel(key);
+        final long delayTicks = Math.min(Math.max(1, (delayMillis + tickMillis - 1) / tickMillis), MAX_TICKS);
+        final Timer<V> timer = new Timer<>(currentTick + delayTicks, value);
+        timers.put(key, timer);
+        place(key, timer);
+    }
+
+    synchronized void cancel(K key) {
+        final Timer<V> timer = timers.remove(key);
+        if (timer != null) levels.get(timer.level).get(timer.slot).remove(key);
+    }
+
+    //Moves the wheel up to the given time and returns the values of the timers that expired on the way.
+    synchronized List<V> advanceTo(long nowMillis) {
+        final long targetTick = (nowMillis - startMillis) / tickMillis;
+        final List<V> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                final long levelTicks = 1L << (SLOT_BITS * level);
+                if (currentTick % levelTicks == 0) cascade(level, (int) ((currentTick >> (SLOT_BITS * level)) & SLOT_MASK));
+            }
+            final Set<K> due = levels.get(0).get((int) (currentTick & SLOT_MASK));
+            for (K key : due) expired.add(timers.remove(key).value);
+            due.clear();
+        }
+        return expired;
+    }
+
+    synchronized int size() {
+        return timers.size();
+    }
+
+    private void cascade(int level, int slot) {
+        final Set<K> slotKeys = levels.get(level).get(slot);
+        final List<K> keys = new ArrayList<>(slotKeys);
+        slotKeys.clear();
+        keys.forEach(key -> place(key, timers.get(key)));
+    }
+
+    private void place(K key, Timer<V> timer) {
+        final long remaining = timer.deadline - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && remaining >= 1L << (SLOT_BITS * (level + 1))) level++;
+        timer.level = level;
+        timer.slot = (int) ((timer.deadline >> (SLOT_BITS * level)) & SLOT_MASK);
+        levels.get(level).get(timer.slot).add(key);
+    }
+
+    private static final class Timer<V> {
+        private final long deadline;
+        private final V value;
+        private int level;
+        private int slot;
+
+        private Timer(long deadline, V value) {
+            this.deadline = deadline;
+            this.value = value;
+        }
+    }
+}
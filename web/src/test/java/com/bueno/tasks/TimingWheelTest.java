@@ -0,0 +1,136 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.tasks;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class TimingWheelTest {
+
+    private TimingWheel<String, String> sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new TimingWheel<>(10, 1_000);
+    }
+
+    @Test
+    @DisplayName("Should not accept non positive tick")
+    void shouldNotAcceptNonPositiveTick() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TimingWheel<String, String>(0, 0));
+    }
+
+    @Test
+    @DisplayName("Should expire timer only when its delay has passed")
+    void shouldExpireTimerOnlyWhenItsDelayHasPassed() {
+        sut.schedule("game", "expired", 50);
+        assertThat(sut.advanceTo(1_040)).isEmpty();
+        assertThat(sut.advanceTo(1_050)).containsExactly("expired");
+        assertThat(sut.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should expire timer only once")
+    void shouldExpireTimerOnlyOnce() {
+        sut.schedule("game", "expired", 50);
+        sut.advanceTo(1_050);
+        assertThat(sut.advanceTo(10_000_000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should round delay up to the next tick")
+    void shouldRoundDelayUpToTheNextTick() {
+        sut.schedule("game", "expired", 41);
+        assertThat(sut.advanceTo(1_040)).isEmpty();
+        assertThat(sut.advanceTo(1_050)).containsExactly("expired");
+    }
+
+    @Test
+    @DisplayName("Should expire all timers passed by a single advance")
+    void shouldExpireAllTimersPassedByASingleAdvance() {
+        sut.schedule("first", "first", 10);
+        sut.schedule("second", "second", 500);
+        sut.schedule("third", "third", 5_000);
+        assertThat(sut.advanceTo(7_000)).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    @DisplayName("Should replace timer when key is scheduled again")
+    void shouldReplaceTimerWhenKeyIsScheduledAgain() {
+        sut.schedule("game", "first", 50);
+        sut.advanceTo(1_040);
+        sut.schedule("game", "second", 50);
+        assertThat(sut.size()).isOne();
+        assertThat(sut.advanceTo(1_080)).isEmpty();
+        assertThat(sut.advanceTo(1_090)).containsExactly("second");
+    }
+
+    @Test
+    @DisplayName("Should not expire cancelled timer")
+    void shouldNotExpireCancelledTimer() {
+        sut.schedule("game", "expired", 50);
+        sut.cancel("game");
+        assertThat(sut.size()).isZero();
+        assertThat(sut.advanceTo(2_000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should expire timer of the second level at its exact tick")
+    void shouldExpireTimerOfTheSecondLevelAtItsExactTick() {
+        sut.advanceTo(1_300);
+        sut.schedule("game", "expired", 1_000);
+        assertThat(sut.advanceTo(2_290)).isEmpty();
+        assertThat(sut.advanceTo(2_300)).containsExactly("expired");
+    }
+
+    @Test
+    @DisplayName("Should expire timer of the third level at its exact tick")
+    void shouldExpireTimerOfTheThirdLevelAtItsExactTick() {
+        sut.advanceTo(1_070);
+        sut.schedule("game", "expired", 50_000);
+        for (long now = 1_080; now < 51_070; now += 10) assertThat(sut.advanceTo(now)).isEmpty();
+        assertThat(sut.advanceTo(51_070)).containsExactly("expired");
+    }
+
+    @Test
+    @DisplayName("Should move re-armed timer to a lower level")
+    void shouldMoveReArmedTimerToALowerLevel() {
+        sut.schedule("game", "first", 50_000);
+        sut.advanceTo(1_640);
+        sut.schedule("game", "second", 100);
+        assertThat(sut.advanceTo(1_730)).isEmpty();
+        assertThat(sut.advanceTo(1_740)).containsExactly("second");
+        assertThat(sut.advanceTo(60_000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should expire delays beyond the wheel range at its end")
+    void shouldExpireDelaysBeyondTheWheelRangeAtItsEnd() {
+        final long range = ((1L << 18) - 1) * 10;
+        sut.schedule("game", "expired", Long.MAX_VALUE / 2);
+        assertThat(sut.advanceTo(1_000 + range - 10)).isEmpty();
+        assertThat(sut.advanceTo(1_000 + range)).containsExactly("expired");
+    }
+}